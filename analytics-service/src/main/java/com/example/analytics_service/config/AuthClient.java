@@ -1,32 +0,0 @@
-package com.example.analytics_service.config;
-
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.*;
-import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestTemplate;
-
-import java.util.Map;
-
-@Component
-public class AuthClient {
-
-    @Value("${auth.service.url}")
-    private String authServiceUrl;
-
-    private final RestTemplate restTemplate = new RestTemplate();
-
-    public Map<String, Object> getUserInfo(String token) {
-        HttpHeaders headers = new HttpHeaders();
-        headers.set("Authorization", "Bearer " + token);
-        HttpEntity<Void> entity = new HttpEntity<>(headers);
-
-        ResponseEntity<Map> response = restTemplate.exchange(
-                authServiceUrl + "/api/auth/validate",
-                HttpMethod.GET,
-                entity,
-                Map.class
-        );
-        return response.getBody();
-    }
-}
-
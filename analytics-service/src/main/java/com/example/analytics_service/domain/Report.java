@@ -2,6 +2,8 @@ package com.example.analytics_service.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 import java.time.ZonedDateTime;
 import java.util.UUID;
@@ -22,11 +24,13 @@ public class Report {
     private String reportType; // Ej: "COSTOS", "RENDIMIENTO", "AVANCE"
 
     @Column(columnDefinition = "JSONB")
+    @JdbcTypeCode(SqlTypes.JSON)
     private String parameters; // JSON serializado de los parámetros de generación
 
     @Column(name = "generated_at", nullable = false)
     private ZonedDateTime generatedAt;
 
     @Column(columnDefinition = "JSONB")
+    @JdbcTypeCode(SqlTypes.JSON)
     private String data; // JSON serializado del contenido del reporte
 }
\ No newline at end of file
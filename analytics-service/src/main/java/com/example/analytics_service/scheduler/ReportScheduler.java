@@ -14,8 +14,8 @@ public class ReportScheduler {
 
     private final ReportService reportService;
 
-    // Ejecuta el job todos los días a la 1:00 AM
-    @Scheduled(cron = "0 0 1 * * ?")
+    // Ejecuta el job todos los días a la 1:00 AM (reports.daily-cost.cron)
+    @Scheduled(cron = "${reports.daily-cost.cron:0 0 1 * * ?}")
     public void generateDailyCostReport() {
         ReportRequest request = new ReportRequest();
         request.setReportType("COSTOS");
@@ -4,10 +4,14 @@ import com.example.analytics_service.domain.Report;
 import com.example.analytics_service.dto.ReportRequest;
 import com.example.analytics_service.dto.ReportResponse;
 import com.example.analytics_service.repository.ReportRepository;
+import com.example.msl_security.ServiceToken;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 import org.springframework.web.reactive.function.client.WebClient;
 
 import java.time.ZonedDateTime;
@@ -21,6 +25,7 @@ public class ReportServiceImpl implements ReportService {
 
     private final ReportRepository reportRepository;
     private final WebClient.Builder webClientBuilder;
+    private final ServiceToken serviceToken;
 
     @Override
     public ReportResponse generateReport(ReportRequest request) {
@@ -30,6 +35,7 @@ public class ReportServiceImpl implements ReportService {
             data = webClientBuilder.build()
                     .get()
                     .uri("http://localhost:8082/api/projects/costs")
+                    .headers(this::authorize)
                     .retrieve()
                     .bodyToMono(String.class)
                     .block();
@@ -38,6 +44,7 @@ public class ReportServiceImpl implements ReportService {
             data = webClientBuilder.build()
                     .get()
                     .uri("http://localhost:8084/api/workers/kpis")
+                    .headers(this::authorize)
                     .retrieve()
                     .bodyToMono(String.class)
                     .block();
@@ -80,6 +87,19 @@ public class ReportServiceImpl implements ReportService {
                 .stream().limit(limit).map(this::toResponse).collect(Collectors.toList());
     }
 
+    // Los servicios consultados exigen token: se reenvía el de quien pidió el reporte. El job programado
+    // no tiene petición y usa la credencial de servicio (project-service la acepta en /api/projects/costs)
+    private void authorize(HttpHeaders headers) {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            String authorization = attributes.getRequest().getHeader(HttpHeaders.AUTHORIZATION);
+            if (authorization != null) {
+                headers.set(HttpHeaders.AUTHORIZATION, authorization);
+            }
+            return;
+        }
+        serviceToken.addTo(headers);
+    }
+
     private ReportResponse toResponse(Report r) {
         return ReportResponse.builder()
                 .id(r.getId())
@@ -1,6 +1,7 @@
 package com.MSLFlooringLLC.authService.config;
 
 import com.MSLFlooringLLC.authService.util.JwtUtils;
+import com.MSLFlooringLLC.authService.util.TokenClaims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -11,20 +12,25 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authorization.AuthorizationDecision;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.function.Supplier;
 
 @Configuration
 @EnableWebSecurity
@@ -41,6 +47,10 @@ public class SecurityConfig {
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/api/auth/**", "/auth/password/**").permitAll()
+                        .requestMatchers("/actuator/health", "/actuator/metrics/**", "/actuator/prometheus").permitAll()
+                        // Las trazas recientes (URIs con query string y tiempos) y el reporte de pinning (marcos de
+                        // pila del servicio): solo administradores
+                        .requestMatchers("/actuator/spans/**", "/actuator/pinning/**").access(SecurityConfig::isAdministrator)
                         .anyRequest().authenticated()
                 )
                 .authenticationProvider(authenticationProvider())
@@ -49,6 +59,16 @@ public class SecurityConfig {
         return http.build();
     }
 
+    // Aquí las authorities son los nombres de rol tal como están en la base (p. ej. "administrador")
+    private static AuthorizationDecision isAdministrator(Supplier<Authentication> authentication,
+                                                        RequestAuthorizationContext context) {
+        Authentication current = authentication.get();
+        boolean admin = current != null && current.isAuthenticated() && current.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .anyMatch(role -> role.equalsIgnoreCase("administrador") || role.equalsIgnoreCase("ROLE_ADMINISTRADOR"));
+        return new AuthorizationDecision(admin);
+    }
+
     @Bean
     public AuthenticationProvider authenticationProvider() {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
@@ -85,21 +105,20 @@ public class SecurityConfig {
                 }
 
                 String authHeader = request.getHeader("Authorization");
-                String token = null;
                 String username = null;
 
+                // Un solo parseo: si la firma o la expiración fallan no hay usuario
                 if (authHeader != null && authHeader.startsWith("Bearer ")) {
-                    token = authHeader.substring(7);
-                    username = jwtUtils.getUsernameFromToken(token);
+                    username = jwtUtils.parseToken(authHeader.substring(7))
+                            .map(TokenClaims::username)
+                            .orElse(null);
                 }
 
                 if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
                     var userDetails = userDetailsService.loadUserByUsername(username);
-                    if (jwtUtils.validateToken(token)) {
-                        var authToken = new org.springframework.security.authentication.UsernamePasswordAuthenticationToken(
-                                userDetails, null, userDetails.getAuthorities());
-                        SecurityContextHolder.getContext().setAuthentication(authToken);
-                    }
+                    var authToken = new org.springframework.security.authentication.UsernamePasswordAuthenticationToken(
+                            userDetails, null, userDetails.getAuthorities());
+                    SecurityContextHolder.getContext().setAuthentication(authToken);
                 }
 
                 filterChain.doFilter(request, response);
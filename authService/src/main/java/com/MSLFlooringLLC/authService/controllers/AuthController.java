@@ -2,20 +2,29 @@
 
 package com.MSLFlooringLLC.authService.controllers;
 
-import com.MSLFlooringLLC.authService.domain.Role;
 import com.MSLFlooringLLC.authService.domain.User;
 import com.MSLFlooringLLC.authService.dto.JwtResponse;
+import com.MSLFlooringLLC.authService.dto.BatchValidationRequest;
 import com.MSLFlooringLLC.authService.dto.LoginRequest;
+import com.MSLFlooringLLC.authService.dto.RefreshRequest;
 import com.MSLFlooringLLC.authService.dto.RegisterRequest;
+import com.MSLFlooringLLC.authService.dto.RevokedTokenResponse;
+import com.MSLFlooringLLC.authService.dto.TokenValidationResult;
 import com.MSLFlooringLLC.authService.dto.UserResponse;
 import com.MSLFlooringLLC.authService.service.AuthService;
+import com.MSLFlooringLLC.authService.util.JwtKeyProvider;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 
-import java.util.HashMap;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -24,10 +33,14 @@ import java.util.Map;
 public class AuthController {
 
     private final AuthService authService;
+    private final JwtKeyProvider jwtKeyProvider;
+
+    @Value("${auth.validate.batch-max-size:100}")
+    private int batchMaxSize;
 
     @PostMapping("/login")
-    public ResponseEntity<JwtResponse> login(@Valid @RequestBody LoginRequest request) {
-        JwtResponse jwt = authService.login(request);
+    public ResponseEntity<JwtResponse> login(@Valid @RequestBody LoginRequest request, HttpServletRequest httpRequest) {
+        JwtResponse jwt = authService.login(request, httpRequest.getRemoteAddr());
         return ResponseEntity.ok(jwt);
     }
 
@@ -37,10 +50,17 @@ public class AuthController {
         return new ResponseEntity<>(UserResponse.fromEntity(registeredUser), HttpStatus.CREATED);
     }
 
+    @PostMapping("/refresh")
+    public ResponseEntity<JwtResponse> refresh(@Valid @RequestBody RefreshRequest request) {
+        return ResponseEntity.ok(authService.refresh(request.getRefreshToken()));
+    }
+
+    // El cuerpo es opcional: si trae el refresh token se revoca también su familia
     @PostMapping("/logout")
-    public ResponseEntity<Void> logout(@RequestHeader("Authorization") String authHeader) {
+    public ResponseEntity<Void> logout(@RequestHeader("Authorization") String authHeader,
+                                       @RequestBody(required = false) RefreshRequest request) {
         String token = authHeader.startsWith("Bearer ") ? authHeader.substring(7) : authHeader;
-        authService.logout(token);
+        authService.logout(token, request != null ? request.getRefreshToken() : null);
         return ResponseEntity.ok().build();
     }
 
@@ -48,15 +68,34 @@ public class AuthController {
     public ResponseEntity<?> validateAndExtract(@RequestHeader("Authorization") String tokenHeader) {
         String token = tokenHeader.startsWith("Bearer ") ? tokenHeader.substring(7) : tokenHeader;
 
-        if (!authService.validateToken(token)) {
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        return authService.introspect(token)
+                .<ResponseEntity<?>>map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.UNAUTHORIZED).build());
+    }
+
+    // Varios tokens en una sola llamada (gateways, integraciones); resultados en el mismo orden
+    @PostMapping("/validate/batch")
+    public ResponseEntity<List<TokenValidationResult>> validateBatch(@Valid @RequestBody BatchValidationRequest request) {
+        if (request.getTokens().size() > batchMaxSize) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "A batch may contain at most " + batchMaxSize + " tokens");
         }
+        return ResponseEntity.ok(authService.introspectAll(request.getTokens()));
+    }
+
+    // Llaves públicas (JWK Set) para que los demás servicios verifiquen los tokens localmente
+    @GetMapping("/jwks")
+    public ResponseEntity<Map<String, Object>> jwks() {
+        return ResponseEntity.ok(jwtKeyProvider.getPublicJwkSet());
+    }
 
-        User user = authService.getUserFromToken(token);
-        Map<String, Object> response = new HashMap<>();
-        response.put("username", user.getUsername());
-        response.put("roles", user.getRoles().stream().map(Role::getName).toList());
-        response.put("userId", user.getId().toString());
-        return ResponseEntity.ok(response);
+    // Revocaciones vigentes desde "since" (epoch millis); los servicios lo consultan periódicamente
+    @GetMapping("/revoked")
+    public ResponseEntity<List<RevokedTokenResponse>> revokedTokens(@RequestParam(defaultValue = "0") long since) {
+        var revokedSince = Instant.ofEpochMilli(since).atZone(ZoneId.systemDefault());
+        List<RevokedTokenResponse> revoked = authService.getRevokedTokensSince(revokedSince).stream()
+                .map(RevokedTokenResponse::fromEntity)
+                .toList();
+        return ResponseEntity.ok(revoked);
     }
-}
\ No newline at end of file
+}
@@ -5,6 +5,7 @@ import lombok.*;
 
 import java.time.ZonedDateTime;
 
+// Tabla particionada por día de expiración (ver db/migration/V2__revoked_tokens_by_digest.sql)
 @Entity
 @Table(name = "revoked_tokens")
 @Data
@@ -12,21 +13,14 @@ import java.time.ZonedDateTime;
 @AllArgsConstructor
 @Builder
 public class RevokedToken {
+    // SHA-256 (hex) del JWT revocado
     @Id
-    @GeneratedValue(generator = "UUID")
-    @Column(name = "id", updatable = false, nullable = false)
-    private java.util.UUID id;
-
-    @Column(nullable = false, unique = true)
-    private String token;
-
-    @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "user_id")
-    private User user;
+    @Column(name = "token_digest", length = 64, nullable = false, updatable = false)
+    private String tokenDigest;
 
     @Column(name = "revoked_at", nullable = false)
     private ZonedDateTime revokedAt;
 
-    @Column(name = "expires_at")
+    @Column(name = "expires_at", nullable = false)
     private ZonedDateTime expiresAt;
-}
\ No newline at end of file
+}
@@ -9,6 +9,7 @@ import java.util.Set;
 
 @Entity
 @Table(name = "roles")
+@EntityListeners(UserCacheInvalidationListener.class)
 @Data
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
 @NoArgsConstructor
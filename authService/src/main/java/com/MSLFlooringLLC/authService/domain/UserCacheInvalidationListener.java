@@ -0,0 +1,30 @@
+package com.MSLFlooringLLC.authService.domain;
+
+import com.MSLFlooringLLC.authService.service.UserStatusCache;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+// Hibernate obtiene este listener del contexto de Spring; ObjectProvider evita el ciclo con el EntityManagerFactory
+@Component
+@RequiredArgsConstructor
+public class UserCacheInvalidationListener {
+
+    private final ObjectProvider<UserStatusCache> userStatusCache;
+
+    // JPA admite un solo método por evento en cada listener; se distingue por el tipo de entidad
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChanged(Object entity) {
+        if (entity instanceof User user) {
+            userStatusCache.ifAvailable(cache -> cache.invalidate(user.getUsername()));
+        } else if (entity instanceof Role) {
+            // Renombrar o borrar un rol afecta a todos los usuarios que lo tienen
+            userStatusCache.ifAvailable(UserStatusCache::invalidateAll);
+        }
+    }
+}
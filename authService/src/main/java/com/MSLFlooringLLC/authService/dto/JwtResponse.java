@@ -15,4 +15,6 @@ public class JwtResponse {
     private String userId;      // 👈 Este campo ya existe
     private String username;
     private List<String> roles;
+    private String refreshToken;  // opaco, rota en cada /api/auth/refresh
+    private long expiresIn;       // segundos de vida del access token
 }
\ No newline at end of file
@@ -0,0 +1,19 @@
+package com.MSLFlooringLLC.authService.dto;
+
+import com.MSLFlooringLLC.authService.domain.RevokedToken;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class RevokedTokenResponse {
+    private String digest;      // SHA-256 (hex) del token revocado
+    private long expiresAt;     // epoch millis; después de esto el token ya no es válido de todos modos
+
+    public static RevokedTokenResponse fromEntity(RevokedToken revoked) {
+        return RevokedTokenResponse.builder()
+                .digest(revoked.getTokenDigest())
+                .expiresAt(revoked.getExpiresAt().toInstant().toEpochMilli())
+                .build();
+    }
+}
@@ -0,0 +1,24 @@
+package com.MSLFlooringLLC.authService.dto;
+
+import com.MSLFlooringLLC.authService.util.TokenClaims;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+// Respuesta de /api/auth/validate: mismas llaves que consumen los AuthClient de los demás servicios
+@Data
+@Builder
+public class TokenValidationResponse {
+    private String username;
+    private String userId;
+    private List<String> roles;
+
+    public static TokenValidationResponse fromClaims(TokenClaims claims, List<String> roles) {
+        return TokenValidationResponse.builder()
+                .username(claims.username())
+                .userId(claims.userId())
+                .roles(roles)
+                .build();
+    }
+}
@@ -0,0 +1,31 @@
+package com.MSLFlooringLLC.authService.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+// Resultado por token en /api/auth/validate/batch, en el mismo orden de la petición
+@Data
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TokenValidationResult {
+    private boolean valid;
+    private String username;
+    private String userId;
+    private List<String> roles;
+
+    public static TokenValidationResult invalid() {
+        return TokenValidationResult.builder().valid(false).build();
+    }
+
+    public static TokenValidationResult fromResponse(TokenValidationResponse response) {
+        return TokenValidationResult.builder()
+                .valid(true)
+                .username(response.getUsername())
+                .userId(response.getUserId())
+                .roles(response.getRoles())
+                .build();
+    }
+}
@@ -3,8 +3,9 @@ package com.MSLFlooringLLC.authService.repository;
 import com.MSLFlooringLLC.authService.domain.RevokedToken;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-import java.util.Optional;
+import java.time.ZonedDateTime;
+import java.util.List;
 
-public interface RevokedTokenRepository extends JpaRepository<RevokedToken, java.util.UUID> {
-    Optional<RevokedToken> findByToken(String token);
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, String> {
+    List<RevokedToken> findByRevokedAtAfterAndExpiresAtAfter(ZonedDateTime revokedAfter, ZonedDateTime expiresAfter);
 }
@@ -2,6 +2,8 @@ package com.MSLFlooringLLC.authService.repository;
 
 import com.MSLFlooringLLC.authService.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, java.util.UUID> {
@@ -9,6 +11,8 @@ public interface UserRepository extends JpaRepository<User, java.util.UUID> {
 
     Optional<User> findByEmail(String email);
 
+    List<User> findByUsernameIn(Collection<? extends String> usernames);
+
     boolean existsByUsername(String username);
 
     boolean existsByEmail(String email);
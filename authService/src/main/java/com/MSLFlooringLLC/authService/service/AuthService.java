@@ -1,20 +1,38 @@
 package com.MSLFlooringLLC.authService.service;
 
 
+import com.MSLFlooringLLC.authService.domain.RevokedToken;
 import com.MSLFlooringLLC.authService.domain.User;
 import com.MSLFlooringLLC.authService.dto.JwtResponse;
 import com.MSLFlooringLLC.authService.dto.LoginRequest;
 import com.MSLFlooringLLC.authService.dto.RegisterRequest;
+import com.MSLFlooringLLC.authService.dto.TokenValidationResponse;
+import com.MSLFlooringLLC.authService.dto.TokenValidationResult;
+import com.MSLFlooringLLC.authService.util.TokenClaims;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
 
 public interface AuthService {
-    JwtResponse login(LoginRequest loginRequest);
+    JwtResponse login(LoginRequest loginRequest, String clientIp);
 
     User register(RegisterRequest registerRequest);
 
-    void logout(String token);
+    JwtResponse refresh(String refreshToken);
+
+    void logout(String token, String refreshToken);
 
     boolean validateToken(String token);
 
-    User getUserFromToken(String token);
+    // Verifica el token una sola vez (firma, expiración y revocación) y devuelve sus claims
+    Optional<TokenClaims> verifyToken(String token);
+
+    // Token válido de un usuario existente y habilitado; roles vigentes desde la caché de usuarios
+    Optional<TokenValidationResponse> introspect(String token);
+
+    List<TokenValidationResult> introspectAll(List<String> tokens);
+
+    List<RevokedToken> getRevokedTokensSince(ZonedDateTime since);
 
 }
\ No newline at end of file
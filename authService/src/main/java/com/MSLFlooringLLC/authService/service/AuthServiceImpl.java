@@ -8,17 +8,24 @@ import com.MSLFlooringLLC.authService.domain.User;
 import com.MSLFlooringLLC.authService.dto.JwtResponse;
 import com.MSLFlooringLLC.authService.dto.LoginRequest;
 import com.MSLFlooringLLC.authService.dto.RegisterRequest;
+import com.MSLFlooringLLC.authService.dto.TokenValidationResponse;
+import com.MSLFlooringLLC.authService.dto.TokenValidationResult;
 import com.MSLFlooringLLC.authService.exceptions.AuthException;
 import com.MSLFlooringLLC.authService.repository.RevokedTokenRepository;
 import com.MSLFlooringLLC.authService.repository.RoleRepository;
 import com.MSLFlooringLLC.authService.repository.UserRepository;
 import com.MSLFlooringLLC.authService.util.JwtUtils;
+import com.MSLFlooringLLC.authService.util.TokenClaims;
+import com.MSLFlooringLLC.authService.util.TokenDigests;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import jakarta.transaction.Transactional;
 
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -28,23 +35,57 @@ public class AuthServiceImpl implements AuthService {
     private final UserRepository userRepository;
     private final RoleRepository roleRepository;
     private final RevokedTokenRepository revokedTokenRepository;
+    private final TokenRevocationCache tokenRevocationCache;
+    private final UserStatusCache userStatusCache;
     private final JwtUtils jwtUtils;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
+    private final LoginThrottle loginThrottle;
+    private final RefreshTokenService refreshTokenService;
 
     @Override
-    public JwtResponse login(LoginRequest loginRequest) {
-        User user = userRepository.findByUsername(loginRequest.getUsername())
-                .orElseThrow(() -> new AuthException("Invalid credentials"));
-        if (!passwordEncoder.matches(loginRequest.getPassword(), user.getPasswordHash())) {
+    public JwtResponse login(LoginRequest loginRequest, String clientIp) {
+        // Se rechaza antes de consultar la BD y de gastar CPU en bcrypt
+        LoginThrottle.Attempt attempt = loginThrottle.acquire(loginRequest.getUsername(), clientIp);
+
+        User user;
+        boolean valid;
+        try {
+            user = userRepository.findByUsername(loginRequest.getUsername()).orElse(null);
+            valid = user != null && passwordHashingService.matches(loginRequest.getPassword(), user.getPasswordHash());
+        } catch (RuntimeException e) {
+            loginThrottle.release(attempt);
+            throw e;
+        }
+        if (!valid) {
+            // La reserva queda como fallo
             throw new AuthException("Invalid credentials");
         }
+        loginThrottle.succeeded(attempt);
+        return buildJwtResponse(user, refreshTokenService.issue(user));
+    }
+
+    @Override
+    public JwtResponse refresh(String refreshToken) {
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(refreshToken);
+        User user = rotation.user();
+        // Un usuario deshabilitado no obtiene más access tokens aunque su refresh token siga vigente
+        if (!userStatusCache.get(user.getUsername()).map(UserStatusCache.UserStatus::enabled).orElse(false)) {
+            refreshTokenService.revoke(rotation.refreshToken());
+            throw new AuthException("Usuario deshabilitado");
+        }
+        return buildJwtResponse(user, rotation.refreshToken());
+    }
+
+    private JwtResponse buildJwtResponse(User user, String refreshToken) {
         String token = jwtUtils.generateToken(user);
         return new JwtResponse(
                 token,
                 "Bearer",
                 user.getId().toString(),  // 👈 AÑADIR EL userId AQUÍ
                 user.getUsername(),
-                user.getRoles().stream().map(Role::getName).collect(Collectors.toList())
+                user.getRoles().stream().map(Role::getName).collect(Collectors.toList()),
+                refreshToken,
+                jwtUtils.getExpirationSeconds()
         );
     }
 
@@ -62,38 +103,81 @@ public class AuthServiceImpl implements AuthService {
         User user = User.builder()
                 .username(registerRequest.getUsername())
                 .email(registerRequest.getEmail())
-                .passwordHash(passwordEncoder.encode(registerRequest.getPassword()))
+                .passwordHash(passwordHashingService.encode(registerRequest.getPassword()))
                 .enabled(true)
                 .createdAt(ZonedDateTime.now())
                 .updatedAt(ZonedDateTime.now())
                 .roles(Set.of(defaultRole))
                 .build();
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        userStatusCache.invalidate(saved.getUsername());
+        return saved;
     }
 
     @Override
-    public void logout(String token) {
+    public void logout(String token, String refreshToken) {
+        if (refreshToken != null && !refreshToken.isBlank()) {
+            refreshTokenService.revoke(refreshToken);
+        }
         RevokedToken revoked = RevokedToken.builder()
-                .token(token)
-                .user(null)
+                .tokenDigest(TokenDigests.sha256Hex(token))
                 .revokedAt(ZonedDateTime.now())
                 .expiresAt(jwtUtils.getExpirationDateFromToken(token))
                 .build();
         revokedTokenRepository.save(revoked);
+        tokenRevocationCache.revoke(token, revoked.getExpiresAt());
     }
 
     @Override
     public boolean validateToken(String token) {
-        if (revokedTokenRepository.findByToken(token).isPresent()) {
-            return false;
+        return verifyToken(token).isPresent();
+    }
+
+    @Override
+    public Optional<TokenClaims> verifyToken(String token) {
+        if (tokenRevocationCache.isRevoked(token)) {
+            return Optional.empty();
         }
-        return jwtUtils.validateToken(token);
+        return jwtUtils.parseToken(token);
+    }
+
+    @Override
+    public Optional<TokenValidationResponse> introspect(String token) {
+        // Identidad desde los claims; solo "enabled" y roles vienen del estado vivo (en caché)
+        return verifyToken(token)
+                .flatMap(claims -> userStatusCache.get(claims.username())
+                        .filter(UserStatusCache.UserStatus::enabled)
+                        .map(status -> TokenValidationResponse.fromClaims(claims, status.roles())));
+    }
+
+    @Override
+    public List<TokenValidationResult> introspectAll(List<String> tokens) {
+        List<String> digests = tokens.stream().map(TokenDigests::sha256Hex).toList();
+        Set<String> revoked = tokenRevocationCache.findRevoked(digests);
+
+        List<Optional<TokenClaims>> claims = new ArrayList<>(tokens.size());
+        for (int i = 0; i < tokens.size(); i++) {
+            claims.add(revoked.contains(digests.get(i)) ? Optional.empty() : jwtUtils.parseToken(tokens.get(i)));
+        }
+
+        Set<String> usernames = claims.stream()
+                .flatMap(Optional::stream)
+                .map(TokenClaims::username)
+                .collect(Collectors.toSet());
+        Map<String, UserStatusCache.UserStatus> statuses = userStatusCache.getAll(usernames);
+
+        return claims.stream()
+                .map(c -> c.flatMap(tokenClaims -> Optional.ofNullable(statuses.get(tokenClaims.username()))
+                                .filter(UserStatusCache.UserStatus::enabled)
+                                .map(status -> TokenValidationResponse.fromClaims(tokenClaims, status.roles())))
+                        .map(TokenValidationResult::fromResponse)
+                        .orElseGet(TokenValidationResult::invalid))
+                .toList();
     }
 
     @Override
-    public User getUserFromToken(String token) {
-        String username = jwtUtils.getUsernameFromToken(token);
-        return userRepository.findByUsername(username)
-                .orElseThrow(() -> new AuthException("Usuario no encontrado"));
+    public List<RevokedToken> getRevokedTokensSince(ZonedDateTime since) {
+        // Solo interesan los que aún no expiran: un token expirado ya es rechazado por su firma
+        return revokedTokenRepository.findByRevokedAtAfterAndExpiresAtAfter(since, ZonedDateTime.now());
     }
 }
\ No newline at end of file
@@ -0,0 +1,115 @@
+package com.MSLFlooringLLC.authService.service;
+
+import com.MSLFlooringLLC.authService.exceptions.TooManyRequestsException;
+import com.MSLFlooringLLC.authService.util.SlidingWindowCounter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+
+// Limita los intentos fallidos de login por usuario y por IP antes de gastar CPU en bcrypt; un intento en curso
+// cuenta como fallo hasta que se sabe su resultado.
+// Los contadores viven en una caché acotada: las llaves inactivas se descartan solas.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LoginThrottle {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${auth.login-throttle.window-seconds:300}")
+    private long windowSeconds;
+
+    @Value("${auth.login-throttle.buckets:10}")
+    private int buckets;
+
+    @Value("${auth.login-throttle.max-failures-per-username:5}")
+    private long maxFailuresPerUsername;
+
+    // Una cuadrilla entera puede salir por la misma IP: el límite por IP es más alto
+    @Value("${auth.login-throttle.max-failures-per-ip:50}")
+    private long maxFailuresPerIp;
+
+    @Value("${auth.login-throttle.max-tracked-keys:100000}")
+    private long maxTrackedKeys;
+
+    private Cache<String, SlidingWindowCounter> counters;
+    private Counter rejected;
+
+    @PostConstruct
+    void init() {
+        counters = Caffeine.newBuilder()
+                .maximumSize(maxTrackedKeys)
+                .expireAfterAccess(Duration.ofSeconds(windowSeconds))
+                .build();
+        rejected = Counter.builder("auth.login.throttled")
+                .description("Logins rechazados antes de bcrypt por exceso de fallos")
+                .register(meterRegistry);
+    }
+
+    // Reserva el intento antes de consultar la BD y de gastar CPU en bcrypt: los intentos simultáneos cuentan
+    // todos contra el límite. Si la contraseña no coincide la reserva queda como fallo; si no, succeeded o release
+    public Attempt acquire(String username, String clientIp) {
+        long now = System.currentTimeMillis();
+        String usernameKey = usernameKey(username);
+        SlidingWindowCounter byUsername = counter(usernameKey);
+        long usernameEpoch = byUsername.increment(now);
+        if (byUsername.sum(now) > maxFailuresPerUsername) {
+            byUsername.decrement(usernameEpoch);
+            throw rejected(username, clientIp, byUsername, maxFailuresPerUsername, now);
+        }
+        SlidingWindowCounter byIp = counter(ipKey(clientIp));
+        long ipEpoch = byIp.increment(now);
+        if (byIp.sum(now) > maxFailuresPerIp) {
+            byIp.decrement(ipEpoch);
+            byUsername.decrement(usernameEpoch);
+            throw rejected(username, clientIp, byIp, maxFailuresPerIp, now);
+        }
+        return new Attempt(usernameKey, byUsername, usernameEpoch, byIp, ipEpoch);
+    }
+
+    // Login correcto: se olvidan los fallos del usuario; la IP solo recupera este intento
+    public void succeeded(Attempt attempt) {
+        counters.invalidate(attempt.usernameKey());
+        attempt.byIp().decrement(attempt.ipEpoch());
+    }
+
+    // El intento no llegó a comparar la contraseña (error de BD, bcrypt sin capacidad): no cuenta como fallo
+    public void release(Attempt attempt) {
+        attempt.byUsername().decrement(attempt.usernameEpoch());
+        attempt.byIp().decrement(attempt.ipEpoch());
+    }
+
+    private TooManyRequestsException rejected(String username, String clientIp, SlidingWindowCounter counter,
+                                              long limit, long now) {
+        rejected.increment();
+        log.warn("Login limitado para usuario '{}' desde {}", username, clientIp);
+        long retryAfterMillis = counter.millisUntilBelow(limit, now);
+        return new TooManyRequestsException("Demasiados intentos fallidos, intenta más tarde",
+                Math.max(1, (retryAfterMillis + 999) / 1000));
+    }
+
+    private SlidingWindowCounter counter(String key) {
+        return counters.get(key, k -> new SlidingWindowCounter(windowSeconds * 1000, buckets));
+    }
+
+    private static String usernameKey(String username) {
+        return "u:" + (username == null ? "" : username.toLowerCase(Locale.ROOT));
+    }
+
+    private static String ipKey(String clientIp) {
+        return "ip:" + clientIp;
+    }
+
+    public record Attempt(String usernameKey, SlidingWindowCounter byUsername, long usernameEpoch,
+                          SlidingWindowCounter byIp, long ipEpoch) {
+    }
+}
@@ -0,0 +1,128 @@
+package com.MSLFlooringLLC.authService.service;
+
+import com.MSLFlooringLLC.authService.exceptions.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// bcrypt fuera de los hilos de Tomcat: cada flujo tiene su propio pool acotado y, si la cola se llena,
+// la petición se rechaza al instante con 429 en lugar de dejar sin CPU a /validate.
+// Con hilos virtuales sigue siendo un pool de plataforma: bcrypt es CPU pura y ocuparía los hilos portadores.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PasswordHashingService {
+
+    private final PasswordEncoder passwordEncoder;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${auth.password-hashing.login.threads:0}")
+    private int loginThreads;
+
+    @Value("${auth.password-hashing.login.queue-capacity:64}")
+    private int loginQueueCapacity;
+
+    @Value("${auth.password-hashing.register.threads:1}")
+    private int registerThreads;
+
+    @Value("${auth.password-hashing.register.queue-capacity:16}")
+    private int registerQueueCapacity;
+
+    @Value("${auth.password-hashing.retry-after-seconds:2}")
+    private long retryAfterSeconds;
+
+    private HashingPool loginPool;
+    private HashingPool registerPool;
+
+    @PostConstruct
+    void init() {
+        // Por defecto la mitad de los núcleos: el resto queda para /validate y demás peticiones
+        int defaultLoginThreads = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        loginPool = new HashingPool("login", loginThreads > 0 ? loginThreads : defaultLoginThreads, loginQueueCapacity);
+        registerPool = new HashingPool("register", registerThreads, registerQueueCapacity);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        loginPool.executor.shutdown();
+        registerPool.executor.shutdown();
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return loginPool.run(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    // Registro y restablecimiento de contraseña comparten el pool de "register"
+    public String encode(String rawPassword) {
+        return registerPool.run(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    private class HashingPool {
+        private final String name;
+        private final ThreadPoolExecutor executor;
+        private final Timer hashTimer;
+        private final Counter rejected;
+
+        HashingPool(String name, int threads, int queueCapacity) {
+            this.name = name;
+            AtomicInteger sequence = new AtomicInteger();
+            this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(queueCapacity),
+                    runnable -> {
+                        Thread thread = new Thread(runnable, "bcrypt-" + name + "-" + sequence.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    },
+                    new ThreadPoolExecutor.AbortPolicy());
+
+            this.hashTimer = Timer.builder("auth.password.hash")
+                    .description("Tiempo de bcrypt, sin contar la espera en cola")
+                    .tag("pool", name)
+                    .register(meterRegistry);
+            this.rejected = Counter.builder("auth.password.rejected")
+                    .description("Peticiones rechazadas con 429 por cola llena")
+                    .tag("pool", name)
+                    .register(meterRegistry);
+            Gauge.builder("auth.password.queue.depth", executor, e -> e.getQueue().size())
+                    .tag("pool", name)
+                    .register(meterRegistry);
+            Gauge.builder("auth.password.active", executor, ThreadPoolExecutor::getActiveCount)
+                    .tag("pool", name)
+                    .register(meterRegistry);
+        }
+
+        <T> T run(Callable<T> task) {
+            try {
+                return executor.submit(() -> hashTimer.recordCallable(task)).get();
+            } catch (RejectedExecutionException e) {
+                rejected.increment();
+                log.warn("Cola de bcrypt '{}' llena ({} en espera); petición rechazada", name, executor.getQueue().size());
+                throw new TooManyRequestsException("Servidor ocupado, intenta de nuevo en unos segundos", retryAfterSeconds);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrumpido esperando bcrypt", e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException runtime) {
+                    throw runtime;
+                }
+                throw new IllegalStateException(e.getCause());
+            }
+        }
+    }
+}
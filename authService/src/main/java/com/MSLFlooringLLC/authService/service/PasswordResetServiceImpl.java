@@ -7,7 +7,6 @@ import com.MSLFlooringLLC.authService.repository.PasswordResetTokenRepository;
 import com.MSLFlooringLLC.authService.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
@@ -20,7 +19,8 @@ public class PasswordResetServiceImpl implements PasswordResetService {
 
     private final UserRepository userRepository;
     private final PasswordResetTokenRepository tokenRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
+    private final RefreshTokenService refreshTokenService;
 
     @Override
     public void requestPasswordReset(String email) {
@@ -48,8 +48,10 @@ public class PasswordResetServiceImpl implements PasswordResetService {
         }
 
         User user = token.getUser();
-        user.setPasswordHash(passwordEncoder.encode(newPassword));
+        user.setPasswordHash(passwordHashingService.encode(newPassword));
         userRepository.save(user);
+        // Nueva contraseña: se cierran las sesiones abiertas en otros dispositivos
+        refreshTokenService.revokeAllForUser(user);
 
         token.setUsed(true);
         tokenRepository.save(token);
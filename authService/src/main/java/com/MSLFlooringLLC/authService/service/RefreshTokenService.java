@@ -0,0 +1,18 @@
+package com.MSLFlooringLLC.authService.service;
+
+import com.MSLFlooringLLC.authService.domain.User;
+
+public interface RefreshTokenService {
+    // Nuevo refresh token (familia nueva) tras un login
+    String issue(User user);
+
+    // Consume el refresh token y devuelve uno nuevo de la misma familia
+    Rotation rotate(String refreshToken);
+
+    void revoke(String refreshToken);
+
+    void revokeAllForUser(User user);
+
+    record Rotation(User user, String refreshToken) {
+    }
+}
@@ -0,0 +1,97 @@
+package com.MSLFlooringLLC.authService.service;
+
+import com.MSLFlooringLLC.authService.domain.RefreshToken;
+import com.MSLFlooringLLC.authService.domain.User;
+import com.MSLFlooringLLC.authService.exceptions.AuthException;
+import com.MSLFlooringLLC.authService.repository.RefreshTokenRepository;
+import com.MSLFlooringLLC.authService.util.TokenDigests;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RefreshTokenServiceImpl implements RefreshTokenService {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    @Value("${auth.refresh-token.ttl-ms:1209600000}")
+    private long refreshTokenTtlMs;
+
+    @Override
+    @Transactional
+    public String issue(User user) {
+        return create(user, UUID.randomUUID());
+    }
+
+    @Override
+    @Transactional(noRollbackFor = AuthException.class)
+    public Rotation rotate(String refreshToken) {
+        RefreshToken current = refreshTokenRepository.findByTokenHash(TokenDigests.sha256Hex(refreshToken))
+                .orElseThrow(() -> new AuthException("Refresh token inválido"));
+        Instant now = Instant.now();
+
+        if (current.getRevokedAt() != null) {
+            // Un token ya rotado que vuelve a aparecer: alguien más lo tiene, se corta toda la familia
+            int revoked = refreshTokenRepository.revokeFamily(current.getFamilyId(), now);
+            log.warn("Reutilización de refresh token en la familia {}; {} tokens revocados", current.getFamilyId(), revoked);
+            throw new AuthException("Refresh token inválido");
+        }
+        if (current.getExpiresAt().isBefore(now)) {
+            throw new AuthException("Refresh token expirado");
+        }
+
+        current.setRevokedAt(now);
+        User user = current.getUser();
+        return new Rotation(user, create(user, current.getFamilyId()));
+    }
+
+    @Override
+    @Transactional
+    public void revoke(String refreshToken) {
+        refreshTokenRepository.findByTokenHash(TokenDigests.sha256Hex(refreshToken))
+                .ifPresent(token -> refreshTokenRepository.revokeFamily(token.getFamilyId(), Instant.now()));
+    }
+
+    @Override
+    @Transactional
+    public void revokeAllForUser(User user) {
+        refreshTokenRepository.revokeAllForUser(user.getId(), Instant.now());
+    }
+
+    @Scheduled(cron = "${auth.refresh-token.purge-cron:0 30 3 * * *}")
+    @Transactional
+    public void purgeExpired() {
+        int deleted = refreshTokenRepository.deleteExpired(Instant.now());
+        if (deleted > 0) {
+            log.info("Eliminados {} refresh tokens expirados", deleted);
+        }
+    }
+
+    private String create(User user, UUID familyId) {
+        byte[] bytes = new byte[32];
+        RANDOM.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        Instant now = Instant.now();
+        refreshTokenRepository.save(RefreshToken.builder()
+                .tokenHash(TokenDigests.sha256Hex(token))
+                .familyId(familyId)
+                .user(user)
+                .issuedAt(now)
+                .expiresAt(now.plusMillis(refreshTokenTtlMs))
+                .build());
+        return token;
+    }
+}
@@ -0,0 +1,86 @@
+package com.MSLFlooringLLC.authService.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+// Mantiene las particiones diarias de revoked_tokens: crea las de los próximos días y elimina
+// completas las que ya solo contienen tokens expirados, sin borrar fila por fila.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RevokedTokenPartitionManager {
+
+    private static final String PARTITION_PREFIX = "revoked_tokens_p";
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // Debe cubrir la vida máxima de un token (jwt.expiration-ms)
+    @Value("${auth.revocation.partition-days-ahead:7}")
+    private int daysAhead;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        maintain();
+    }
+
+    @Scheduled(cron = "${auth.revocation.partition-cron:0 5 0 * * *}", zone = "UTC")
+    public void maintain() {
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        for (int i = 0; i <= daysAhead; i++) {
+            createPartition(today.plusDays(i));
+        }
+        dropExpiredPartitions(today);
+
+        // La partición por defecto solo recibe expiraciones fuera de rango; se limpia fila a fila
+        int purged = jdbcTemplate.update("DELETE FROM revoked_tokens_default WHERE expires_at < now()");
+        if (purged > 0) {
+            log.info("Eliminadas {} revocaciones expiradas de revoked_tokens_default", purged);
+        }
+    }
+
+    private void createPartition(LocalDate day) {
+        String sql = String.format(
+                "CREATE TABLE IF NOT EXISTS %s PARTITION OF revoked_tokens FOR VALUES FROM ('%s') TO ('%s')",
+                PARTITION_PREFIX + day.format(SUFFIX),
+                day.atStartOfDay(ZoneOffset.UTC).toOffsetDateTime(),
+                day.plusDays(1).atStartOfDay(ZoneOffset.UTC).toOffsetDateTime());
+        try {
+            jdbcTemplate.execute(sql);
+        } catch (DataAccessException e) {
+            // Ocurre si la partición por defecto ya tiene filas de ese día; quedan ahí hasta expirar
+            log.warn("No se pudo crear la partición de revocaciones para {}: {}", day, e.getMessage());
+        }
+    }
+
+    private void dropExpiredPartitions(LocalDate today) {
+        List<String> partitions = jdbcTemplate.queryForList("""
+                SELECT c.relname
+                FROM pg_inherits i
+                JOIN pg_class c ON c.oid = i.inhrelid
+                JOIN pg_class p ON p.oid = i.inhparent
+                WHERE p.relname = 'revoked_tokens' AND c.relname LIKE 'revoked_tokens_p%'
+                """, String.class);
+
+        for (String partition : partitions) {
+            LocalDate day = LocalDate.parse(partition.substring(PARTITION_PREFIX.length()), SUFFIX);
+            // Todos sus tokens expiraron antes de hoy a las 00:00 UTC
+            if (day.isBefore(today)) {
+                jdbcTemplate.execute("DROP TABLE IF EXISTS " + partition);
+                log.info("Eliminada la partición de revocaciones expiradas {}", partition);
+            }
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.MSLFlooringLLC.authService.service;
+
+import com.MSLFlooringLLC.authService.domain.RevokedToken;
+import com.MSLFlooringLLC.authService.repository.RevokedTokenRepository;
+import com.MSLFlooringLLC.authService.util.BloomFilter;
+import com.MSLFlooringLLC.authService.util.TokenDigests;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Tokens revocados en memoria: filtro de Bloom delante de un mapa exacto huella -> expiración.
+// Un token nunca revocado se descarta en el filtro sin tocar la base de datos.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenRevocationCache {
+
+    // Margen al sincronizar para no perder revocaciones de otras instancias por desfase de relojes
+    private static final long SYNC_OVERLAP_MS = 60_000;
+
+    private final RevokedTokenRepository revokedTokenRepository;
+
+    @Value("${auth.revocation.expected-entries:100000}")
+    private long expectedEntries;
+
+    @Value("${auth.revocation.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+    private volatile BloomFilter filter;
+    private volatile long lastSync;
+
+    @PostConstruct
+    void load() {
+        long startedAt = System.currentTimeMillis();
+        List<RevokedToken> active = revokedTokenRepository.findByRevokedAtAfterAndExpiresAtAfter(
+                Instant.EPOCH.atZone(ZoneId.systemDefault()), ZonedDateTime.now());
+        filter = new BloomFilter(Math.max(expectedEntries, active.size() * 2L), falsePositiveRate);
+        active.forEach(this::remember);
+        lastSync = startedAt;
+        log.info("Cargados {} tokens revocados vigentes", revoked.size());
+    }
+
+    public boolean isRevoked(String token) {
+        return isRevokedDigest(TokenDigests.sha256Hex(token), filter, System.currentTimeMillis());
+    }
+
+    // Una sola pasada para un lote de huellas, con el mismo filtro y el mismo instante
+    public Set<String> findRevoked(Collection<String> digests) {
+        BloomFilter current = filter;
+        long now = System.currentTimeMillis();
+        Set<String> result = new HashSet<>();
+        for (String digest : digests) {
+            if (isRevokedDigest(digest, current, now)) {
+                result.add(digest);
+            }
+        }
+        return result;
+    }
+
+    private boolean isRevokedDigest(String digest, BloomFilter current, long now) {
+        if (!current.mightContain(digest)) {
+            return false;
+        }
+        Long expiresAt = revoked.get(digest);
+        return expiresAt != null && expiresAt > now;
+    }
+
+    public void revoke(String token, ZonedDateTime expiresAt) {
+        revoke(TokenDigests.sha256Hex(token), toMillis(expiresAt));
+    }
+
+    // Sincronizado con rebuildFilter para que ninguna revocación quede fuera del filtro nuevo
+    private synchronized void revoke(String digest, long expiresAt) {
+        revoked.put(digest, expiresAt);
+        filter.put(digest);
+    }
+
+    // Quita los expirados, reconstruye el filtro (no admite borrados) y trae lo revocado por otras instancias
+    @Scheduled(fixedDelayString = "${auth.revocation.sync-ms:30000}")
+    public void refresh() {
+        long startedAt = System.currentTimeMillis();
+        ZonedDateTime since = Instant.ofEpochMilli(lastSync - SYNC_OVERLAP_MS).atZone(ZoneId.systemDefault());
+        revokedTokenRepository.findByRevokedAtAfterAndExpiresAtAfter(since, ZonedDateTime.now())
+                .forEach(this::remember);
+        lastSync = startedAt;
+
+        revoked.values().removeIf(expiresAt -> expiresAt <= startedAt);
+        rebuildFilter();
+    }
+
+    private void remember(RevokedToken token) {
+        revoke(token.getTokenDigest(), toMillis(token.getExpiresAt()));
+    }
+
+    private synchronized void rebuildFilter() {
+        BloomFilter rebuilt = new BloomFilter(Math.max(expectedEntries, revoked.size() * 2L), falsePositiveRate);
+        revoked.keySet().forEach(rebuilt::put);
+        filter = rebuilt;
+    }
+
+    private static long toMillis(ZonedDateTime expiresAt) {
+        return expiresAt != null ? expiresAt.toInstant().toEpochMilli() : Long.MAX_VALUE;
+    }
+}
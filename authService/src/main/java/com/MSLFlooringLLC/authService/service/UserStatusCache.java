@@ -0,0 +1,98 @@
+package com.MSLFlooringLLC.authService.service;
+
+import com.MSLFlooringLLC.authService.domain.Role;
+import com.MSLFlooringLLC.authService.domain.User;
+import com.MSLFlooringLLC.authService.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+// Estado vivo de cada usuario (habilitado y roles) para /validate sin cargar User + roles en cada llamada.
+// Se invalida explícitamente cuando cambia un usuario, sus roles o un rol (ver UserCacheInvalidationListener
+// y UserRolesChangeListener).
+@Component
+@RequiredArgsConstructor
+public class UserStatusCache {
+
+    private final UserRepository userRepository;
+
+    @Value("${auth.user-cache.max-size:10000}")
+    private long maxSize;
+
+    // Red de seguridad por si algún cambio no pasa por JPA (p. ej. SQL manual)
+    @Value("${auth.user-cache.ttl-ms:300000}")
+    private long ttlMs;
+
+    private Cache<String, UserStatus> cache;
+
+    public record UserStatus(UUID id, boolean enabled, List<String> roles) {
+    }
+
+    @PostConstruct
+    void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(ttlMs))
+                .build();
+    }
+
+    public Optional<UserStatus> get(String username) {
+        UserStatus cached = cache.getIfPresent(username);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        // Los usuarios inexistentes no se guardan: no hay nada que invalidar si se registran después
+        Optional<UserStatus> loaded = userRepository.findByUsername(username).map(UserStatusCache::toStatus);
+        loaded.ifPresent(status -> cache.put(username, status));
+        return loaded;
+    }
+
+    // Lote: los que no están en caché se cargan con una sola consulta
+    public Map<String, UserStatus> getAll(Collection<String> usernames) {
+        return cache.getAll(usernames, missing -> userRepository.findByUsernameIn(missing).stream()
+                .collect(Collectors.toMap(User::getUsername, UserStatusCache::toStatus)));
+    }
+
+    public void invalidate(String username) {
+        cache.invalidate(username);
+        // Otra vez al confirmar: una lectura concurrente pudo recargar el estado anterior al commit
+        afterCommit(() -> cache.invalidate(username));
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+        afterCommit(cache::invalidateAll);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        }
+    }
+
+    private static UserStatus toStatus(User user) {
+        return new UserStatus(
+                user.getId(),
+                Boolean.TRUE.equals(user.getEnabled()),
+                user.getRoles().stream().map(Role::getName).toList()
+        );
+    }
+}
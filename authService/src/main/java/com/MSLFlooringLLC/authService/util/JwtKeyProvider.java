@@ -0,0 +1,124 @@
+package com.MSLFlooringLLC.authService.util;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.KeyUse;
+import com.nimbusds.jose.jwk.RSAKey;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+// Llaves RSA con las que se firman los JWT. La parte pública se publica en /api/auth/jwks
+// para que los demás servicios verifiquen los tokens sin llamar a /validate.
+@Slf4j
+@Component
+public class JwtKeyProvider {
+
+    @Value("${jwt.rsa.private-key-location:}")
+    private String privateKeyLocation;
+
+    @Value("${jwt.rsa.public-key-location:}")
+    private String publicKeyLocation;
+
+    @Value("${jwt.rsa.key-id:}")
+    private String keyId;
+
+    // Llaves públicas anteriores que se siguen publicando mientras existan tokens firmados con ellas
+    @Value("${jwt.rsa.retired-public-key-locations:}")
+    private List<String> retiredPublicKeyLocations;
+
+    private final ResourceLoader resourceLoader = new DefaultResourceLoader();
+
+    private RSAKey signingKey;
+    private JWKSet publicJwkSet;
+
+    @PostConstruct
+    void init() throws GeneralSecurityException, IOException, JOSEException {
+        if (privateKeyLocation.isBlank() || publicKeyLocation.isBlank()) {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+            generator.initialize(2048);
+            KeyPair pair = generator.generateKeyPair();
+            signingKey = toJwk((RSAPublicKey) pair.getPublic(), (RSAPrivateKey) pair.getPrivate(), keyId);
+            log.warn("jwt.rsa.private-key-location no configurado: se generó una llave temporal (kid={}). "
+                    + "Los tokens emitidos dejarán de ser válidos al reiniciar.", signingKey.getKeyID());
+        } else {
+            signingKey = toJwk(readPublicKey(publicKeyLocation), readPrivateKey(privateKeyLocation), keyId);
+        }
+
+        List<JWK> publicKeys = new ArrayList<>();
+        publicKeys.add(signingKey.toPublicJWK());
+        for (String location : retiredPublicKeyLocations) {
+            if (!location.isBlank()) {
+                publicKeys.add(toJwk(readPublicKey(location), null, null));
+            }
+        }
+        publicJwkSet = new JWKSet(publicKeys);
+    }
+
+    public String getKeyId() {
+        return signingKey.getKeyID();
+    }
+
+    public RSAPrivateKey getPrivateKey() throws JOSEException {
+        return signingKey.toRSAPrivateKey();
+    }
+
+    public RSAPublicKey getPublicKey() throws JOSEException {
+        return signingKey.toRSAPublicKey();
+    }
+
+    public Map<String, Object> getPublicJwkSet() {
+        return publicJwkSet.toJSONObject();
+    }
+
+    private RSAKey toJwk(RSAPublicKey publicKey, RSAPrivateKey privateKey, String kid) throws JOSEException {
+        RSAKey.Builder builder = new RSAKey.Builder(publicKey)
+                .keyUse(KeyUse.SIGNATURE)
+                .algorithm(JWSAlgorithm.RS256);
+        if (privateKey != null) {
+            builder.privateKey(privateKey);
+        }
+        if (kid == null || kid.isBlank()) {
+            builder.keyIDFromThumbprint();
+        } else {
+            builder.keyID(kid);
+        }
+        return builder.build();
+    }
+
+    private RSAPublicKey readPublicKey(String location) throws IOException, GeneralSecurityException {
+        byte[] der = readPem(location);
+        return (RSAPublicKey) KeyFactory.getInstance("RSA").generatePublic(new X509EncodedKeySpec(der));
+    }
+
+    private RSAPrivateKey readPrivateKey(String location) throws IOException, GeneralSecurityException {
+        byte[] der = readPem(location);
+        return (RSAPrivateKey) KeyFactory.getInstance("RSA").generatePrivate(new PKCS8EncodedKeySpec(der));
+    }
+
+    private byte[] readPem(String location) throws IOException {
+        String pem = resourceLoader.getResource(location).getContentAsString(StandardCharsets.US_ASCII);
+        String base64 = pem.replaceAll("-----[A-Z ]+-----", "").replaceAll("\\s", "");
+        return Base64.getDecoder().decode(base64);
+    }
+}
@@ -1,69 +1,82 @@
 package com.MSLFlooringLLC.authService.util;
 
 import com.MSLFlooringLLC.authService.domain.User;
+import com.nimbusds.jose.JOSEException;
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.context.annotation.PropertySource;
 import org.springframework.stereotype.Component;
 
-import java.security.Key;
+import java.security.PrivateKey;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.Date;
-import java.util.function.Function;
+import java.util.Optional;
 
 @Component
+@RequiredArgsConstructor
 public class JwtUtils {
-    @Value("${jwt.secret}")
-    private String jwtSecret;
+    private final JwtKeyProvider keyProvider;
 
     @Value("${jwt.expiration-ms}")
     private long jwtExpirationMs;
 
-    private Key getSigningKey() {
-        byte[] keyBytes = jwtSecret.getBytes();
-        return Keys.hmacShaKeyFor(keyBytes);
+    // Llave y parser se construyen una vez al arrancar; JwtParser es inmutable y seguro entre hilos
+    private PrivateKey signingKey;
+    private String keyId;
+    private JwtParser parser;
+
+    @PostConstruct
+    void init() {
+        try {
+            signingKey = keyProvider.getPrivateKey();
+            keyId = keyProvider.getKeyId();
+            parser = Jwts.parser()
+                    .verifyWith(keyProvider.getPublicKey())
+                    .build();
+        } catch (JOSEException e) {
+            throw new IllegalStateException("Llaves JWT no disponibles", e);
+        }
+    }
+
+    public long getExpirationSeconds() {
+        return jwtExpirationMs / 1000;
     }
 
     public String generateToken(User user) {
         return Jwts.builder()
-                .setSubject(user.getUsername())
+                .header().keyId(keyId).and()
+                .subject(user.getUsername())
                 .claim("roles", user.getRoles().stream().map(r -> r.getName()).toList())
                 .claim("userId", user.getId()) // <-- AÑADE ESTA LÍNEA
-                .setIssuedAt(new Date())
-                .setExpiration(new Date(System.currentTimeMillis() + jwtExpirationMs))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS512)
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + jwtExpirationMs))
+                .signWith(signingKey, Jwts.SIG.RS256)
                 .compact();
     }
 
-    public boolean validateToken(String token) {
+    // Verifica firma y expiración una sola vez; vacío si el token no es válido
+    public Optional<TokenClaims> parseToken(String token) {
         try {
-            Jwts.parser()
-                    .setSigningKey(getSigningKey())
-                    .build()
-                    .parseClaimsJws(token);
-            return true;
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            return Optional.of(TokenClaims.fromClaims(claims));
         } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            return Optional.empty();
         }
     }
 
-    public String getUsernameFromToken(String token) {
-        return getClaimFromToken(token, Claims::getSubject);
+    public boolean validateToken(String token) {
+        return parseToken(token).isPresent();
     }
 
-    public ZonedDateTime getExpirationDateFromToken(String token) {
-        Date expiration = getClaimFromToken(token, Claims::getExpiration);
-        return expiration.toInstant().atZone(ZoneId.systemDefault());
+    public String getUsernameFromToken(String token) {
+        return parseToken(token).map(TokenClaims::username).orElse(null);
     }
 
-    private <T> T getClaimFromToken(String token, Function<Claims, T> claimsResolver) {
-        Claims claims = Jwts.parser()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-        return claimsResolver.apply(claims);
+    public ZonedDateTime getExpirationDateFromToken(String token) {
+        return parseToken(token)
+                .map(claims -> claims.expiresAt().atZone(ZoneId.systemDefault()))
+                .orElseThrow(() -> new JwtException("Token inválido"));
     }
-}
\ No newline at end of file
+}
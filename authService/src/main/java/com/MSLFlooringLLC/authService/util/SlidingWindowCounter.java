@@ -0,0 +1,99 @@
+package com.MSLFlooringLLC.authService.util;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Contador de ventana deslizante sin bloqueos: un anillo de cubetas donde cada long empaqueta
+// el número de cubeta (época) en los bits altos y la cuenta en los 20 bits bajos, así reiniciar
+// e incrementar una cubeta es un único compareAndSet.
+public class SlidingWindowCounter {
+
+    private static final int COUNT_BITS = 20;
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+
+    private final AtomicLongArray buckets;
+    private final long bucketMillis;
+
+    public SlidingWindowCounter(long windowMillis, int bucketCount) {
+        this.buckets = new AtomicLongArray(bucketCount);
+        this.bucketMillis = Math.max(1, windowMillis / bucketCount);
+    }
+
+    // Devuelve la época de la cubeta incrementada, para deshacerlo con decrement
+    public long increment(long nowMillis) {
+        long epoch = nowMillis / bucketMillis;
+        int slot = (int) (epoch % buckets.length());
+        while (true) {
+            long current = buckets.get(slot);
+            long next;
+            if (current >>> COUNT_BITS != epoch) {
+                next = (epoch << COUNT_BITS) | 1;
+            } else if ((current & COUNT_MASK) == COUNT_MASK) {
+                return epoch;
+            } else {
+                next = current + 1;
+            }
+            if (buckets.compareAndSet(slot, current, next)) {
+                return epoch;
+            }
+        }
+    }
+
+    // Deshace un increment; si su cubeta ya salió de la ventana no queda nada que restar
+    public void decrement(long epoch) {
+        int slot = (int) (epoch % buckets.length());
+        while (true) {
+            long current = buckets.get(slot);
+            if (current >>> COUNT_BITS != epoch || (current & COUNT_MASK) == 0) {
+                return;
+            }
+            if (buckets.compareAndSet(slot, current, current - 1)) {
+                return;
+            }
+        }
+    }
+
+    public long sum(long nowMillis) {
+        long epoch = nowMillis / bucketMillis;
+        long oldest = epoch - buckets.length() + 1;
+        long total = 0;
+        for (int i = 0; i < buckets.length(); i++) {
+            long value = buckets.get(i);
+            long bucketEpoch = value >>> COUNT_BITS;
+            if (bucketEpoch >= oldest && bucketEpoch <= epoch) {
+                total += value & COUNT_MASK;
+            }
+        }
+        return total;
+    }
+
+    // Cuánto falta para que la suma baje de limit: las cubetas salen de la ventana de la más antigua a la más nueva
+    public long millisUntilBelow(long limit, long nowMillis) {
+        long epoch = nowMillis / bucketMillis;
+        long oldest = epoch - buckets.length() + 1;
+        long[] live = new long[buckets.length()];
+        int count = 0;
+        long total = 0;
+        for (int i = 0; i < buckets.length(); i++) {
+            long value = buckets.get(i);
+            long bucketEpoch = value >>> COUNT_BITS;
+            if (bucketEpoch >= oldest && bucketEpoch <= epoch && (value & COUNT_MASK) > 0) {
+                live[count++] = value;
+                total += value & COUNT_MASK;
+            }
+        }
+        // La época va en los bits altos: ordenar los valores es ordenar por época
+        Arrays.sort(live, 0, count);
+        for (int i = 0; i < count && total >= limit; i++) {
+            total -= live[i] & COUNT_MASK;
+            if (total < limit) {
+                return (live[i] >>> COUNT_BITS) * bucketMillis + buckets.length() * bucketMillis - nowMillis;
+            }
+        }
+        return 0;
+    }
+
+    public long getBucketMillis() {
+        return bucketMillis;
+    }
+}
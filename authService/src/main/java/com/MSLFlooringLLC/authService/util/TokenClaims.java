@@ -0,0 +1,26 @@
+package com.MSLFlooringLLC.authService.util;
+
+import io.jsonwebtoken.Claims;
+
+import java.time.Instant;
+import java.util.List;
+
+// Vista inmutable de un JWT ya verificado; se parsea una sola vez y se comparte entre quienes lo usan.
+public record TokenClaims(String username, String userId, List<String> roles, Instant issuedAt, Instant expiresAt) {
+
+    public TokenClaims {
+        roles = roles != null ? List.copyOf(roles) : List.of();
+    }
+
+    static TokenClaims fromClaims(Claims claims) {
+        Object userId = claims.get("userId");
+        List<?> roles = claims.get("roles", List.class);
+        return new TokenClaims(
+                claims.getSubject(),
+                userId != null ? userId.toString() : null,
+                roles != null ? roles.stream().map(Object::toString).toList() : List.of(),
+                claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : null,
+                claims.getExpiration() != null ? claims.getExpiration().toInstant() : null
+        );
+    }
+}
@@ -0,0 +1,47 @@
+-- Revocaciones guardadas por huella SHA-256 del token (64 caracteres) en lugar del JWT completo.
+-- La tabla se particiona por día de expiración para purgar días completos con DROP TABLE.
+CREATE TABLE revoked_tokens_by_digest (
+    token_digest CHAR(64)    NOT NULL,
+    revoked_at   TIMESTAMPTZ NOT NULL,
+    expires_at   TIMESTAMPTZ NOT NULL,
+    PRIMARY KEY (token_digest, expires_at)
+) PARTITION BY RANGE (expires_at);
+
+-- Red de seguridad para expiraciones fuera de las particiones diarias creadas
+CREATE TABLE revoked_tokens_default PARTITION OF revoked_tokens_by_digest DEFAULT;
+
+-- Particiones diarias (UTC) para la semana en curso; RevokedTokenPartitionManager crea las siguientes
+DO $$
+DECLARE
+    d DATE;
+BEGIN
+    FOR d IN SELECT generate_series((now() AT TIME ZONE 'UTC')::date,
+                                      (now() AT TIME ZONE 'UTC')::date + 7,
+                                      INTERVAL '1 day')::date
+    LOOP
+        EXECUTE format(
+            'CREATE TABLE IF NOT EXISTS %I PARTITION OF revoked_tokens_by_digest FOR VALUES FROM (%L) TO (%L)',
+            'revoked_tokens_p' || to_char(d, 'YYYYMMDD'),
+            d::timestamp AT TIME ZONE 'UTC',
+            (d + 1)::timestamp AT TIME ZONE 'UTC');
+    END LOOP;
+END $$;
+
+-- Sincronización entre instancias (RevokedTokenRepository.findByRevokedAtAfterAndExpiresAtAfter)
+CREATE INDEX idx_revoked_tokens_revoked_at ON revoked_tokens_by_digest (revoked_at);
+
+-- Migra las revocaciones vigentes de la tabla anterior (JWT completo) y la elimina
+DO $$
+BEGIN
+    IF to_regclass('revoked_tokens') IS NOT NULL THEN
+        INSERT INTO revoked_tokens_by_digest (token_digest, revoked_at, expires_at)
+        SELECT encode(sha256(convert_to(token, 'UTF8')), 'hex'), revoked_at, expires_at
+        FROM revoked_tokens
+        WHERE expires_at > now()
+        ON CONFLICT DO NOTHING;
+
+        DROP TABLE revoked_tokens;
+    END IF;
+END $$;
+
+ALTER TABLE revoked_tokens_by_digest RENAME TO revoked_tokens;
@@ -0,0 +1,36 @@
+package com.MSLFlooringLLC.authService.controllers;
+
+import com.MSLFlooringLLC.authService.exceptions.AuthException;
+import com.MSLFlooringLLC.authService.exceptions.GlobalExceptionHandler;
+import com.MSLFlooringLLC.authService.service.AuthService;
+import com.MSLFlooringLLC.authService.util.JwtKeyProvider;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class AuthControllerRefreshTest {
+
+    private final AuthService authService = mock(AuthService.class);
+    private final MockMvc mockMvc = MockMvcBuilders
+            .standaloneSetup(new AuthController(authService, mock(JwtKeyProvider.class)))
+            .setControllerAdvice(new GlobalExceptionHandler())
+            .build();
+
+    @Test
+    void unRefreshTokenRechazadoDevuelve401() throws Exception {
+        when(authService.refresh("reutilizado")).thenThrow(new AuthException("Refresh token inválido"));
+
+        mockMvc.perform(post("/api/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"refreshToken\":\"reutilizado\"}"))
+                .andExpect(status().isUnauthorized())
+                .andExpect(content().string("Refresh token inválido"));
+    }
+}
@@ -0,0 +1,115 @@
+package com.MSLFlooringLLC.authService.domain;
+
+import com.MSLFlooringLLC.authService.service.UserStatusCache;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.time.ZonedDateTime;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Cambiar solo los roles de un usuario no lo deja sucio: la caché tiene que enterarse por el evento de colección
+@DataJpaTest(properties = {"spring.jpa.hibernate.ddl-auto=create-drop", "spring.flyway.enabled=false"})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({UserStatusCache.class, UserCacheInvalidationListener.class, UserRolesChangeListener.class,
+        UserRolesChangeListenerTest.Database.class})
+class UserRolesChangeListenerTest {
+
+    private static EmbeddedPostgres postgres;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private UserStatusCache userStatusCache;
+
+    private Role trabajador;
+    private Role administrador;
+    private User user;
+
+    @TestConfiguration
+    static class Database {
+        @Bean
+        DataSource dataSource() {
+            return postgres.getPostgresDatabase();
+        }
+    }
+
+    @BeforeAll
+    static void startDatabase() throws IOException {
+        postgres = EmbeddedPostgres.builder().start();
+    }
+
+    @AfterAll
+    static void stopDatabase() throws IOException {
+        postgres.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        trabajador = entityManager.persist(role("TRABAJADOR"));
+        administrador = entityManager.persist(role("ADMINISTRADOR"));
+        user = entityManager.persist(User.builder()
+                .username("juan")
+                .email("juan@example.com")
+                .passwordHash("hash")
+                .enabled(true)
+                .createdAt(ZonedDateTime.now())
+                .updatedAt(ZonedDateTime.now())
+                .roles(new HashSet<>(Set.of(trabajador)))
+                .build());
+        entityManager.flush();
+        assertThat(userStatusCache.get("juan").orElseThrow().roles()).containsExactly("TRABAJADOR");
+    }
+
+    @Test
+    void agregarUnRolInvalidaElEstado() {
+        user.getRoles().add(administrador);
+        entityManager.flush();
+
+        assertThat(userStatusCache.get("juan").orElseThrow().roles())
+                .containsExactlyInAnyOrder("TRABAJADOR", "ADMINISTRADOR");
+    }
+
+    @Test
+    void quitarUnRolInvalidaElEstado() {
+        user.getRoles().remove(trabajador);
+        entityManager.flush();
+
+        assertThat(userStatusCache.get("juan").orElseThrow().roles()).isEmpty();
+    }
+
+    @Test
+    void reemplazarLosRolesInvalidaElEstado() {
+        user.setRoles(new HashSet<>(Set.of(administrador)));
+        entityManager.flush();
+
+        assertThat(userStatusCache.get("juan").orElseThrow().roles()).containsExactly("ADMINISTRADOR");
+    }
+
+    @Test
+    void deshabilitarInvalidaElEstado() {
+        user.setEnabled(false);
+        entityManager.flush();
+
+        assertThat(userStatusCache.get("juan").orElseThrow().enabled()).isFalse();
+    }
+
+    private static Role role(String name) {
+        return Role.builder().name(name).createdAt(ZonedDateTime.now()).build();
+    }
+}
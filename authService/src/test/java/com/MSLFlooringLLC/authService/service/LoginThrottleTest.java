@@ -0,0 +1,152 @@
+package com.MSLFlooringLLC.authService.service;
+
+import com.MSLFlooringLLC.authService.exceptions.TooManyRequestsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LoginThrottleTest {
+
+    private LoginThrottle throttle;
+
+    @BeforeEach
+    void setUp() {
+        throttle = new LoginThrottle(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(throttle, "windowSeconds", 300L);
+        ReflectionTestUtils.setField(throttle, "buckets", 10);
+        ReflectionTestUtils.setField(throttle, "maxFailuresPerUsername", 5L);
+        ReflectionTestUtils.setField(throttle, "maxFailuresPerIp", 50L);
+        ReflectionTestUtils.setField(throttle, "maxTrackedKeys", 1000L);
+        throttle.init();
+    }
+
+    @Test
+    void permiteHastaElLimiteYRechazaElSiguiente() {
+        for (int i = 0; i < 5; i++) {
+            throttle.acquire("Juan", "10.0.0.1");
+        }
+
+        assertThatThrownBy(() -> throttle.acquire("juan", "10.0.0.2"))
+                .isInstanceOf(TooManyRequestsException.class)
+                .satisfies(e -> assertThat(((TooManyRequestsException) e).getRetryAfterSeconds())
+                        .isBetween(1L, 300L));
+    }
+
+    @Test
+    void unIntentoRechazadoNoConsumeCupo() {
+        for (int i = 0; i < 5; i++) {
+            throttle.acquire("juan", "10.0.0.1");
+        }
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> throttle.acquire("juan", "10.0.0.1"))
+                    .isInstanceOf(TooManyRequestsException.class);
+        }
+
+        // La IP solo lleva los 5 intentos admitidos
+        for (int i = 0; i < 45; i++) {
+            throttle.acquire("otro" + i, "10.0.0.1");
+        }
+        assertThatThrownBy(() -> throttle.acquire("uno-mas", "10.0.0.1"))
+                .isInstanceOf(TooManyRequestsException.class);
+    }
+
+    @Test
+    void unLoginCorrectoBorraLosFallosDelUsuario() {
+        for (int i = 0; i < 4; i++) {
+            throttle.acquire("juan", "10.0.0.1");
+        }
+        throttle.succeeded(throttle.acquire("juan", "10.0.0.1"));
+
+        for (int i = 0; i < 5; i++) {
+            throttle.acquire("juan", "10.0.0.1");
+        }
+        assertThatThrownBy(() -> throttle.acquire("juan", "10.0.0.1"))
+                .isInstanceOf(TooManyRequestsException.class);
+    }
+
+    @Test
+    void releaseDevuelveLaReserva() {
+        for (int i = 0; i < 10; i++) {
+            throttle.release(throttle.acquire("juan", "10.0.0.1"));
+        }
+
+        throttle.acquire("juan", "10.0.0.1");
+    }
+
+    @Test
+    void unaRafagaConcurrenteNoSuperaElLimite() throws Exception {
+        int threads = 64;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                results.add(pool.submit(() -> {
+                    start.await();
+                    try {
+                        throttle.acquire("juan", "10.0.0.1");
+                        return true;
+                    } catch (TooManyRequestsException e) {
+                        return false;
+                    }
+                }));
+            }
+            start.countDown();
+
+            int admitted = 0;
+            for (Future<Boolean> result : results) {
+                if (result.get(10, TimeUnit.SECONDS)) {
+                    admitted++;
+                }
+            }
+            assertThat(admitted).isEqualTo(5);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void unaRafagaConcurrenteDesdeUnaIpNoSuperaSuLimite() throws Exception {
+        int threads = 120;
+        ExecutorService pool = Executors.newFixedThreadPool(32);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                String username = "usuario" + i;
+                results.add(pool.submit(() -> {
+                    start.await();
+                    try {
+                        throttle.acquire(username, "10.0.0.1");
+                        return true;
+                    } catch (TooManyRequestsException e) {
+                        return false;
+                    }
+                }));
+            }
+            start.countDown();
+
+            int admitted = 0;
+            for (Future<Boolean> result : results) {
+                if (result.get(10, TimeUnit.SECONDS)) {
+                    admitted++;
+                }
+            }
+            assertThat(admitted).isEqualTo(50);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
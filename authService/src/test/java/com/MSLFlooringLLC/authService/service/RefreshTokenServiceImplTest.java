@@ -0,0 +1,96 @@
+package com.MSLFlooringLLC.authService.service;
+
+import com.MSLFlooringLLC.authService.domain.RefreshToken;
+import com.MSLFlooringLLC.authService.domain.User;
+import com.MSLFlooringLLC.authService.exceptions.AuthException;
+import com.MSLFlooringLLC.authService.repository.RefreshTokenRepository;
+import com.MSLFlooringLLC.authService.util.TokenDigests;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RefreshTokenServiceImplTest {
+
+    private final RefreshTokenRepository repository = mock(RefreshTokenRepository.class);
+    private final RefreshTokenServiceImpl service = new RefreshTokenServiceImpl(repository);
+    private final User user = new User();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "refreshTokenTtlMs", 60_000L);
+    }
+
+    @Test
+    void rotarConsumeElTokenYEmiteOtroDeLaMismaFamilia() {
+        UUID family = UUID.randomUUID();
+        RefreshToken current = stored("viejo", family, null, Instant.now().plusSeconds(60));
+
+        RefreshTokenService.Rotation rotation = service.rotate("viejo");
+
+        assertThat(current.getRevokedAt()).isNotNull();
+        assertThat(rotation.user()).isSameAs(user);
+        assertThat(rotation.refreshToken()).isNotBlank().isNotEqualTo("viejo");
+        ArgumentCaptor<RefreshToken> saved = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(repository).save(saved.capture());
+        assertThat(saved.getValue().getFamilyId()).isEqualTo(family);
+        assertThat(saved.getValue().getTokenHash()).isEqualTo(TokenDigests.sha256Hex(rotation.refreshToken()));
+        assertThat(saved.getValue().getRevokedAt()).isNull();
+        verify(repository, never()).revokeFamily(any(), any());
+    }
+
+    @Test
+    void reutilizarUnTokenRotadoRevocaLaFamilia() {
+        UUID family = UUID.randomUUID();
+        stored("usado", family, Instant.now().minusSeconds(5), Instant.now().plusSeconds(60));
+
+        assertThatThrownBy(() -> service.rotate("usado")).isInstanceOf(AuthException.class);
+
+        verify(repository).revokeFamily(eq(family), any());
+        verify(repository, never()).save(any());
+    }
+
+    @Test
+    void unTokenExpiradoNoSeRota() {
+        stored("expirado", UUID.randomUUID(), null, Instant.now().minusSeconds(1));
+
+        assertThatThrownBy(() -> service.rotate("expirado")).isInstanceOf(AuthException.class);
+
+        verify(repository, never()).save(any());
+        verify(repository, never()).revokeFamily(any(), any());
+    }
+
+    @Test
+    void unTokenDesconocidoEsInvalido() {
+        when(repository.findByTokenHash(anyString())).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> service.rotate("desconocido")).isInstanceOf(AuthException.class);
+    }
+
+    private RefreshToken stored(String token, UUID family, Instant revokedAt, Instant expiresAt) {
+        RefreshToken refreshToken = RefreshToken.builder()
+                .tokenHash(TokenDigests.sha256Hex(token))
+                .familyId(family)
+                .user(user)
+                .issuedAt(Instant.now().minusSeconds(10))
+                .expiresAt(expiresAt)
+                .revokedAt(revokedAt)
+                .build();
+        when(repository.findByTokenHash(TokenDigests.sha256Hex(token))).thenReturn(Optional.of(refreshToken));
+        return refreshToken;
+    }
+}
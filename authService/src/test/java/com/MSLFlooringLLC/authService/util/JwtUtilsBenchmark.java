@@ -0,0 +1,74 @@
+package com.MSLFlooringLLC.authService.util;
+
+import com.MSLFlooringLLC.authService.domain.Role;
+import com.MSLFlooringLLC.authService.domain.User;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// Costo de validar un token como lo hace /api/auth/validate.
+// legacy: parser y llave nuevos en cada llamada, dos parseos (validateToken + getUsernameFromToken).
+// singleParse: parser compartido construido al arrancar y un solo parseo con TokenClaims.
+// Ejecutar: mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=com.MSLFlooringLLC.authService.util.JwtUtilsBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtUtilsBenchmark {
+
+    private JwtKeyProvider keyProvider;
+    private JwtUtils jwtUtils;
+    private String token;
+
+    @Setup
+    public void setUp() throws Exception {
+        keyProvider = new JwtKeyProvider();
+        ReflectionTestUtils.setField(keyProvider, "privateKeyLocation", "");
+        ReflectionTestUtils.setField(keyProvider, "publicKeyLocation", "");
+        ReflectionTestUtils.setField(keyProvider, "keyId", "");
+        ReflectionTestUtils.setField(keyProvider, "retiredPublicKeyLocations", List.of());
+        keyProvider.init();
+
+        jwtUtils = new JwtUtils(keyProvider);
+        ReflectionTestUtils.setField(jwtUtils, "jwtExpirationMs", 3_600_000L);
+        jwtUtils.init();
+
+        User user = User.builder()
+                .id(UUID.randomUUID())
+                .username("benchmark@mslflooring.com")
+                .roles(Set.of(Role.builder().name("trabajador").build()))
+                .build();
+        token = jwtUtils.generateToken(user);
+    }
+
+    @Benchmark
+    public String legacy() throws Exception {
+        Jwts.parser().verifyWith(keyProvider.getPublicKey()).build().parseSignedClaims(token);
+        Claims claims = Jwts.parser().verifyWith(keyProvider.getPublicKey()).build()
+                .parseSignedClaims(token)
+                .getPayload();
+        return claims.getSubject();
+    }
+
+    @Benchmark
+    public String singleParse() {
+        return jwtUtils.parseToken(token).map(TokenClaims::username).orElseThrow();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtUtilsBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,77 @@
+package com.MSLFlooringLLC.authService.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SlidingWindowCounterTest {
+
+    // Ventana de 10 s en 10 cubetas de 1 s
+    private final SlidingWindowCounter counter = new SlidingWindowCounter(10_000, 10);
+
+    @Test
+    void sumaSoloLasCubetasDentroDeLaVentana() {
+        counter.increment(0);
+        counter.increment(500);
+        counter.increment(3_000);
+
+        assertThat(counter.sum(3_000)).isEqualTo(3);
+        assertThat(counter.sum(9_999)).isEqualTo(3);
+        // A los 10 s la cubeta 0 sale de la ventana
+        assertThat(counter.sum(10_000)).isEqualTo(1);
+        assertThat(counter.sum(13_000)).isZero();
+    }
+
+    @Test
+    void unaCubetaReutilizadaEmpiezaDeCero() {
+        counter.increment(1_000);
+        counter.increment(1_000);
+        // Misma ranura del anillo, una vuelta después
+        counter.increment(11_000);
+
+        assertThat(counter.sum(11_000)).isEqualTo(1);
+    }
+
+    @Test
+    void decrementDeshaceElIncrementDeSuCubeta() {
+        long epoch = counter.increment(2_000);
+        counter.increment(2_500);
+
+        counter.decrement(epoch);
+
+        assertThat(counter.sum(2_500)).isEqualTo(1);
+    }
+
+    @Test
+    void decrementNoTocaUnaCubetaQueYaRoto() {
+        long epoch = counter.increment(1_000);
+        counter.increment(11_000);
+
+        counter.decrement(epoch);
+
+        assertThat(counter.sum(11_000)).isEqualTo(1);
+    }
+
+    @Test
+    void millisUntilBelowEsperaALaCubetaQueDejaLaSumaBajoElLimite() {
+        counter.increment(1_000);
+        counter.increment(4_000);
+        counter.increment(4_000);
+        counter.increment(7_000);
+
+        // Con límite 4 basta con que salga la cubeta 1 (a los 11 s)
+        assertThat(counter.millisUntilBelow(4, 8_000)).isEqualTo(3_000);
+        // Con límite 3 también debe salir la cubeta 4 (a los 14 s)
+        assertThat(counter.millisUntilBelow(3, 8_000)).isEqualTo(6_000);
+        assertThat(counter.millisUntilBelow(2, 8_000)).isEqualTo(6_000);
+        // Con límite 1 solo queda esperar a la más nueva (a los 17 s)
+        assertThat(counter.millisUntilBelow(1, 8_000)).isEqualTo(9_000);
+    }
+
+    @Test
+    void millisUntilBelowEsCeroSiYaEstaBajoElLimite() {
+        counter.increment(1_000);
+
+        assertThat(counter.millisUntilBelow(2, 1_000)).isZero();
+    }
+}
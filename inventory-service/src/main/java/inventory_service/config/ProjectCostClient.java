@@ -0,0 +1,52 @@
+package inventory_service.config;
+
+import com.example.msl_security.ServiceToken;
+import inventory_service.domain.ProjectCostOutboxEntry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.Map;
+
+// Envía a project-service el costo de un movimiento de material de un proyecto para su acumulado de costos,
+// con la credencial de servicio (X-Service-Token). Lo llama ProjectCostOutbox; un fallo lanza excepción
+@Component
+public class ProjectCostClient {
+
+    private final RestTemplate restTemplate;
+    private final ServiceToken serviceToken;
+
+    @Value("${project.service.url}")
+    private String projectServiceUrl;
+
+    public ProjectCostClient(RestTemplateBuilder restTemplateBuilder, ServiceToken serviceToken) {
+        this.serviceToken = serviceToken;
+        this.restTemplate = restTemplateBuilder
+                .connectTimeout(Duration.ofSeconds(1))
+                .readTimeout(Duration.ofSeconds(2))
+                .build();
+    }
+
+    public void send(ProjectCostOutboxEntry entry) {
+        Map<String, Object> body = Map.of(
+                "sourceId", entry.getSourceId(),
+                "projectId", entry.getProjectId(),
+                "kind", "MATERIAL",
+                "materialCost", entry.getMaterialCost()
+        );
+        restTemplate.postForEntity(projectServiceUrl + "/api/projects/cost-events",
+                new HttpEntity<>(body, headers()), Void.class);
+    }
+
+    private HttpHeaders headers() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        serviceToken.addTo(headers);
+        return headers;
+    }
+}
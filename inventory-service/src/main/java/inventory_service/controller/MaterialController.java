@@ -1,5 +1,7 @@
 package inventory_service.controller;
 
+import com.example.msl_pagination.FieldSelection;
+import com.example.msl_pagination.PageResponses;
 import inventory_service.dto.MaterialRequest;
 import inventory_service.dto.MaterialResponse;
 import inventory_service.service.MaterialService;
@@ -17,6 +19,7 @@ import java.util.UUID;
 public class MaterialController {
 
     private final MaterialService materialService;
+    private final PageResponses pageResponses;
 
     @PostMapping
     @PreAuthorize("hasRole('ADMINISTRADOR')")
@@ -25,8 +28,11 @@ public class MaterialController {
     }
 
     @GetMapping
-    public ResponseEntity<List<MaterialResponse>> getAllMaterials() {
-        return ResponseEntity.ok(materialService.getAllMaterials());
+    public ResponseEntity<List<?>> getAllMaterials(@RequestParam(required = false) String cursor,
+                                                   @RequestParam(required = false) Integer size,
+                                                   @RequestParam(required = false) String fields) {
+        FieldSelection selection = FieldSelection.parse(fields, MaterialResponse.FIELDS);
+        return pageResponses.ok(materialService.getAllMaterials(cursor, size, selection), selection);
     }
 
     @GetMapping("/{id}")
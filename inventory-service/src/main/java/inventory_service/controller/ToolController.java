@@ -1,5 +1,7 @@
 package inventory_service.controller;
 
+import com.example.msl_pagination.FieldSelection;
+import com.example.msl_pagination.PageResponses;
 import inventory_service.dto.ToolRequest;
 import inventory_service.dto.ToolResponse;
 import inventory_service.service.ToolService;
@@ -17,6 +19,7 @@ import java.util.UUID;
 public class ToolController {
 
     private final ToolService toolService;
+    private final PageResponses pageResponses;
 
     @PostMapping
     @PreAuthorize("hasRole('ADMINISTRADOR')")
@@ -25,8 +28,11 @@ public class ToolController {
     }
 
     @GetMapping
-    public ResponseEntity<List<ToolResponse>> getAllTools() {
-        return ResponseEntity.ok(toolService.getAllTools());
+    public ResponseEntity<List<?>> getAllTools(@RequestParam(required = false) String cursor,
+                                               @RequestParam(required = false) Integer size,
+                                               @RequestParam(required = false) String fields) {
+        FieldSelection selection = FieldSelection.parse(fields, ToolResponse.FIELDS);
+        return pageResponses.ok(toolService.getAllTools(cursor, size, selection), selection);
     }
 
     @GetMapping("/{id}")
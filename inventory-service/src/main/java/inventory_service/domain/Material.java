@@ -8,7 +8,7 @@ import java.time.ZonedDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "materials")
+@Table(name = "materials", indexes = @Index(name = "idx_materials_created_at_id", columnList = "created_at, id"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -0,0 +1,37 @@
+package inventory_service.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+@Entity
+// Costo de un movimiento de material pendiente de enviar a project-service; se guarda en la misma transacción
+// que el movimiento y ProjectCostOutbox la borra cuando project-service la recibe
+@Table(name = "project_cost_outbox", indexes = @Index(name = "idx_project_cost_outbox_created_at", columnList = "created_at"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProjectCostOutboxEntry {
+
+    @Id
+    @Column(name = "source_id")
+    private UUID sourceId; // id del movimiento
+
+    @Column(name = "project_id", nullable = false)
+    private UUID projectId;
+
+    @Column(name = "material_cost", nullable = false, precision = 15, scale = 2)
+    private BigDecimal materialCost; // negativo en devoluciones
+
+    @Column(name = "created_at", nullable = false)
+    private ZonedDateTime createdAt;
+
+    // Un envío solo borra la fila si no cambió mientras se enviaba
+    @Version
+    private Long version;
+}
@@ -7,7 +7,7 @@ import java.time.ZonedDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "tools")
+@Table(name = "tools", indexes = @Index(name = "idx_tools_created_at_id", columnList = "created_at, id"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -5,11 +5,15 @@ import lombok.Data;
 
 import java.math.BigDecimal;
 import java.time.ZonedDateTime;
+import java.util.Set;
 import java.util.UUID;
 
 @Data
 @Builder
 public class MaterialResponse {
+    // Valores aceptados en fields=
+    public static final Set<String> FIELDS = Set.of("id", "name", "description", "imageUrl", "unitPrice", "createdAt");
+
     private UUID id;
     private String name;
     private String description;
@@ -4,11 +4,15 @@ import lombok.Builder;
 import lombok.Data;
 
 import java.time.ZonedDateTime;
+import java.util.Set;
 import java.util.UUID;
 
 @Data
 @Builder
 public class ToolResponse {
+    // Valores aceptados en fields=
+    public static final Set<String> FIELDS = Set.of("id", "name", "description", "createdAt");
+
     private UUID id;
     private String name;
     private String description;
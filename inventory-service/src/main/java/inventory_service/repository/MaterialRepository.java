@@ -1,6 +1,10 @@
 package inventory_service.repository;
 
 import inventory_service.domain.Material;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.Optional;
@@ -8,4 +12,7 @@ import java.util.UUID;
 
 public interface MaterialRepository extends JpaRepository<Material, UUID> {
     Optional<Material> findByNameIgnoreCase(String name);
-}
\ No newline at end of file
+
+    // Listado por keyset; type es Material o MaterialSummary
+    <T> Window<T> findAllBy(ScrollPosition position, Sort sort, Limit limit, Class<T> type);
+}
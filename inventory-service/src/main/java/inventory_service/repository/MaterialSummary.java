@@ -0,0 +1,18 @@
+package inventory_service.repository;
+
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+// Proyección para listados: todas las columnas menos description (TEXT)
+public interface MaterialSummary {
+    UUID getId();
+
+    String getName();
+
+    String getImageUrl();
+
+    BigDecimal getUnitPrice();
+
+    ZonedDateTime getCreatedAt();
+}
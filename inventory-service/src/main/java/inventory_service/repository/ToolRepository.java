@@ -1,6 +1,10 @@
 package inventory_service.repository;
 
 import inventory_service.domain.Tool;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.UUID;
@@ -8,4 +12,7 @@ import java.util.Optional;
 
 public interface ToolRepository extends JpaRepository<Tool, UUID> {
     Optional<Tool> findByNameIgnoreCase(String name);
+
+    // Listado por keyset; type es Tool o ToolSummary
+    <T> Window<T> findAllBy(ScrollPosition position, Sort sort, Limit limit, Class<T> type);
 }
@@ -0,0 +1,13 @@
+package inventory_service.repository;
+
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+// Proyección para listados: todas las columnas menos description (TEXT)
+public interface ToolSummary {
+    UUID getId();
+
+    String getName();
+
+    ZonedDateTime getCreatedAt();
+}
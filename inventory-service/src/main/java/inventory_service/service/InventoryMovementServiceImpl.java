@@ -1,12 +1,20 @@
 package inventory_service.service;
 
 import inventory_service.domain.InventoryMovement;
+import inventory_service.domain.Material;
 import inventory_service.dto.InventoryMovementRequest;
 import inventory_service.dto.InventoryMovementResponse;
 import inventory_service.repository.InventoryMovementRepository;
+import inventory_service.repository.MaterialRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.UUID;
@@ -17,8 +25,28 @@ import java.util.stream.Collectors;
 public class InventoryMovementServiceImpl implements InventoryMovementService {
 
     private final InventoryMovementRepository repo;
+    private final MaterialRepository materialRepository;
+    private final ProjectCostOutbox projectCostOutbox;
+    private final MeterRegistry meterRegistry;
+
+    private Timer availableStockTimer;
+    private DistributionSummary movementsScanned;
+
+    @PostConstruct
+    void initMeters() {
+        availableStockTimer = Timer.builder("inventory.stock.available")
+                .description("Cálculo del stock disponible de un material")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        // El cálculo recorre todos los movimientos del material: crece con su historial
+        movementsScanned = DistributionSummary.builder("inventory.stock.movements.scanned")
+                .description("Movimientos sumados por cálculo de stock")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
 
     @Override
+    @Transactional
     public InventoryMovementResponse recordMovement(InventoryMovementRequest req) {
         InventoryMovement movement = InventoryMovement.builder()
                 .materialId(req.getMaterialId())
@@ -27,7 +55,26 @@ public class InventoryMovementServiceImpl implements InventoryMovementService {
                 .movementType(req.getMovementType())
                 .movementDate(ZonedDateTime.now())
                 .build();
-        return toResponse(repo.save(movement));
+        InventoryMovement saved = repo.save(movement);
+        recordProjectCost(saved);
+        return toResponse(saved);
+    }
+
+    // Costo del movimiento para el acumulado de project-service, al precio unitario vigente: OUT es material
+    // entregado al proyecto y suma, IN es material devuelto y resta. Se envía fuera de la petición
+    private void recordProjectCost(InventoryMovement movement) {
+        if (movement.getProjectId() == null || movement.getQuantity() == null) {
+            return;
+        }
+        boolean out = "OUT".equalsIgnoreCase(movement.getMovementType());
+        if (!out && !"IN".equalsIgnoreCase(movement.getMovementType())) {
+            return;
+        }
+        materialRepository.findById(movement.getMaterialId())
+                .map(Material::getUnitPrice)
+                .map(unitPrice -> unitPrice.multiply(BigDecimal.valueOf(movement.getQuantity())))
+                .ifPresent(cost -> projectCostOutbox.enqueue(movement.getId(), movement.getProjectId(),
+                        out ? cost : cost.negate()));
     }
 
     @Override
@@ -57,16 +104,19 @@ public class InventoryMovementServiceImpl implements InventoryMovementService {
 
     @Override
     public int getAvailableStock(UUID materialId) {
-        List<InventoryMovement> movements = repo.findByMaterialId(materialId);
-        int stock = 0;
-        for (InventoryMovement m : movements) {
-            if ("IN".equalsIgnoreCase(m.getMovementType())) {
-                stock += m.getQuantity();
-            } else if ("OUT".equalsIgnoreCase(m.getMovementType())) {
-                stock -= m.getQuantity();
+        return availableStockTimer.record(() -> {
+            List<InventoryMovement> movements = repo.findByMaterialId(materialId);
+            movementsScanned.record(movements.size());
+            int stock = 0;
+            for (InventoryMovement m : movements) {
+                if ("IN".equalsIgnoreCase(m.getMovementType())) {
+                    stock += m.getQuantity();
+                } else if ("OUT".equalsIgnoreCase(m.getMovementType())) {
+                    stock -= m.getQuantity();
+                }
             }
-        }
-        return stock;
+            return stock;
+        });
     }
 
 }
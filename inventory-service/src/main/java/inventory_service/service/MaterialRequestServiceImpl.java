@@ -1,10 +1,9 @@
 package inventory_service.service;
 
-import inventory_service.domain.InventoryMovement;
 import inventory_service.domain.MaterialRequest;
+import inventory_service.dto.InventoryMovementRequest;
 import inventory_service.dto.MaterialRequestCreateDTO;
 import inventory_service.dto.MaterialRequestResponseDTO;
-import inventory_service.repository.InventoryMovementRepository;
 import inventory_service.repository.MaterialRequestRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -19,7 +18,7 @@ import java.util.stream.Collectors;
 public class MaterialRequestServiceImpl implements MaterialRequestService {
 
     private final MaterialRequestRepository repo;
-    private final InventoryMovementRepository movementRepo;
+    private final InventoryMovementService inventoryMovementService;
 
     @Override
     public MaterialRequestResponseDTO createRequest(MaterialRequestCreateDTO dto) {
@@ -48,15 +47,13 @@ public class MaterialRequestServiceImpl implements MaterialRequestService {
         request.setApprovedAt(ZonedDateTime.now());
         repo.save(request);
 
-        // Registrar salida de inventario
-        InventoryMovement movement = InventoryMovement.builder()
-                .materialId(request.getMaterialId())
-                .projectId(request.getProjectId())
-                .quantity(request.getQuantity())
-                .movementType("OUT")
-                .movementDate(ZonedDateTime.now())
-                .build();
-        movementRepo.save(movement);
+        // Registrar salida de inventario; recordMovement también envía su costo al acumulado del proyecto
+        InventoryMovementRequest movement = new InventoryMovementRequest();
+        movement.setMaterialId(request.getMaterialId());
+        movement.setProjectId(request.getProjectId());
+        movement.setQuantity(request.getQuantity());
+        movement.setMovementType("OUT");
+        inventoryMovementService.recordMovement(movement);
 
         return toResponse(request);
     }
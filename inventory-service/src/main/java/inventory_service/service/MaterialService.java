@@ -1,5 +1,7 @@
 package inventory_service.service;
 
+import com.example.msl_pagination.CursorPage;
+import com.example.msl_pagination.FieldSelection;
 import inventory_service.dto.MaterialRequest;
 import inventory_service.dto.MaterialResponse;
 
@@ -9,7 +11,7 @@ import java.util.UUID;
 public interface MaterialService {
     MaterialResponse createMaterial(MaterialRequest request);
 
-    List<MaterialResponse> getAllMaterials();
+    CursorPage<MaterialResponse> getAllMaterials(String cursor, Integer size, FieldSelection fields);
 
     MaterialResponse getMaterialById(UUID id);
 
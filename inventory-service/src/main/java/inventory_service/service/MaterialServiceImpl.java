@@ -1,10 +1,17 @@
 package inventory_service.service;
 
+import com.example.msl_pagination.CursorPage;
+import com.example.msl_pagination.FieldSelection;
+import com.example.msl_pagination.KeysetPagination;
 import inventory_service.domain.Material;
 import inventory_service.dto.MaterialRequest;
 import inventory_service.dto.MaterialResponse;
 import inventory_service.repository.MaterialRepository;
+import inventory_service.repository.MaterialSummary;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
 import java.time.ZonedDateTime;
@@ -31,10 +38,17 @@ public class MaterialServiceImpl implements MaterialService {
     }
 
     @Override
-    public List<MaterialResponse> getAllMaterials() {
-        return materialRepository.findAll()
-                .stream().map(this::toResponse)
-                .collect(Collectors.toList());
+    public CursorPage<MaterialResponse> getAllMaterials(String cursor, Integer size, FieldSelection fields) {
+        ScrollPosition position = KeysetPagination.position(cursor, "createdAt");
+        Sort sort = KeysetPagination.newestFirst("createdAt");
+        Limit limit = KeysetPagination.limit(size);
+        if (fields.includesAny("description")) {
+            return KeysetPagination.page(materialRepository.findAllBy(position, sort, limit, Material.class),
+                    Material::getCreatedAt, Material::getId).map(this::toResponse);
+        }
+        // Sin description no se lee la columna TEXT
+        return KeysetPagination.page(materialRepository.findAllBy(position, sort, limit, MaterialSummary.class),
+                MaterialSummary::getCreatedAt, MaterialSummary::getId).map(this::toResponse);
     }
 
     @Override
@@ -69,6 +83,16 @@ public class MaterialServiceImpl implements MaterialService {
         materialRepository.deleteById(id);
     }
 
+    private MaterialResponse toResponse(MaterialSummary m) {
+        return MaterialResponse.builder()
+                .id(m.getId())
+                .name(m.getName())
+                .imageUrl(m.getImageUrl())
+                .unitPrice(m.getUnitPrice())
+                .createdAt(m.getCreatedAt())
+                .build();
+    }
+
     private MaterialResponse toResponse(Material m) {
         return MaterialResponse.builder()
                 .id(m.getId())
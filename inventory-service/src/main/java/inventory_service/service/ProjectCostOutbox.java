@@ -0,0 +1,59 @@
+package inventory_service.service;
+
+import inventory_service.config.ProjectCostClient;
+import inventory_service.domain.ProjectCostOutboxEntry;
+import inventory_service.repository.ProjectCostOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.UUID;
+
+// Costo de los movimientos de material para el acumulado de costos de project-service. El movimiento solo guarda
+// una fila (misma transacción, sin esperar a project-service) y flush las envía en orden; si project-service no
+// responde quedan para el siguiente ciclo. Reenviar una fila ya recibida no suma dos veces.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProjectCostOutbox {
+
+    private final ProjectCostOutboxRepository repository;
+    private final ProjectCostClient projectCostClient;
+
+    @Value("${projects.cost-outbox.batch-size:100}")
+    private int batchSize;
+
+    // Llamar dentro de la transacción que registra el movimiento
+    public void enqueue(UUID movementId, UUID projectId, BigDecimal materialCost) {
+        repository.upsert(movementId, projectId, materialCost, ZonedDateTime.now());
+    }
+
+    @Scheduled(fixedDelayString = "${projects.cost-outbox.flush-ms:2000}")
+    public void flush() {
+        List<ProjectCostOutboxEntry> pending;
+        do {
+            pending = repository.findAllByOrderByCreatedAtAsc(Limit.of(batchSize));
+            for (ProjectCostOutboxEntry entry : pending) {
+                try {
+                    projectCostClient.send(entry);
+                } catch (HttpClientErrorException.BadRequest | HttpClientErrorException.NotFound e) {
+                    // Proyecto borrado o evento inválido: reintentar no lo arregla
+                    log.error("project-service rechazó el costo del movimiento {}, se descarta: {}",
+                            entry.getSourceId(), e.getMessage());
+                } catch (Exception e) {
+                    log.warn("No se pudo enviar a project-service el costo del movimiento {}, se reintentará: {}",
+                            entry.getSourceId(), e.getMessage());
+                    return;
+                }
+                repository.deleteSent(entry.getSourceId(), entry.getVersion());
+            }
+        } while (pending.size() == batchSize);
+    }
+}
@@ -1,5 +1,7 @@
 package inventory_service.service;
 
+import com.example.msl_pagination.CursorPage;
+import com.example.msl_pagination.FieldSelection;
 import inventory_service.dto.ToolRequest;
 import inventory_service.dto.ToolResponse;
 
@@ -9,7 +11,7 @@ import java.util.UUID;
 public interface ToolService {
     ToolResponse createTool(ToolRequest request);
 
-    List<ToolResponse> getAllTools();
+    CursorPage<ToolResponse> getAllTools(String cursor, Integer size, FieldSelection fields);
 
     ToolResponse getToolById(UUID id);
 
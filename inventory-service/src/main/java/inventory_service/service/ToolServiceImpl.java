@@ -1,10 +1,17 @@
 package inventory_service.service;
 
+import com.example.msl_pagination.CursorPage;
+import com.example.msl_pagination.FieldSelection;
+import com.example.msl_pagination.KeysetPagination;
 import inventory_service.domain.Tool;
 import inventory_service.dto.ToolRequest;
 import inventory_service.dto.ToolResponse;
 import inventory_service.repository.ToolRepository;
+import inventory_service.repository.ToolSummary;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
 
@@ -30,10 +37,17 @@ public class ToolServiceImpl implements ToolService {
     }
 
     @Override
-    public List<ToolResponse> getAllTools() {
-        return repo.findAll().stream()
-                .map(this::toResponse)
-                .collect(Collectors.toList());
+    public CursorPage<ToolResponse> getAllTools(String cursor, Integer size, FieldSelection fields) {
+        ScrollPosition position = KeysetPagination.position(cursor, "createdAt");
+        Sort sort = KeysetPagination.newestFirst("createdAt");
+        Limit limit = KeysetPagination.limit(size);
+        if (fields.includesAny("description")) {
+            return KeysetPagination.page(repo.findAllBy(position, sort, limit, Tool.class),
+                    Tool::getCreatedAt, Tool::getId).map(this::toResponse);
+        }
+        // Sin description no se lee la columna TEXT
+        return KeysetPagination.page(repo.findAllBy(position, sort, limit, ToolSummary.class),
+                ToolSummary::getCreatedAt, ToolSummary::getId).map(this::toResponse);
     }
 
     @Override
@@ -68,6 +82,14 @@ public class ToolServiceImpl implements ToolService {
         repo.deleteById(id);
     }
 
+    private ToolResponse toResponse(ToolSummary t) {
+        return ToolResponse.builder()
+                .id(t.getId())
+                .name(t.getName())
+                .createdAt(t.getCreatedAt())
+                .build();
+    }
+
     private ToolResponse toResponse(Tool t) {
         return ToolResponse.builder()
                 .id(t.getId())
@@ -0,0 +1,65 @@
+package com.example.msl_loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// Latencias por operación en microsegundos (HdrHistogram, 3 dígitos significativos) y errores.
+// reset() descarta lo medido durante el calentamiento.
+public class LatencyRecorder {
+
+    private final Map<String, Operation> operations = new ConcurrentHashMap<>();
+
+    public record Snapshot(Histogram histogram, long errors) {
+    }
+
+    public <T> T time(String operation, Callable<T> call) throws Exception {
+        Operation op = operation(operation);
+        long start = System.nanoTime();
+        try {
+            T result = call.call();
+            op.recorder.recordValue(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start));
+            return result;
+        } catch (Exception e) {
+            op.errors.increment();
+            throw e;
+        }
+    }
+
+    public void recordMicros(String operation, long micros) {
+        operation(operation).recorder.recordValue(Math.max(0, micros));
+    }
+
+    // Respuesta 2xx pero con contenido inválido
+    public void recordError(String operation) {
+        operation(operation).errors.increment();
+    }
+
+    public void reset() {
+        operations.values().forEach(op -> {
+            op.recorder.reset();
+            op.errors.reset();
+        });
+    }
+
+    public Map<String, Snapshot> snapshot() {
+        Map<String, Snapshot> result = new TreeMap<>();
+        operations.forEach((name, op) -> result.put(name, new Snapshot(op.recorder.getIntervalHistogram(), op.errors.sumThenReset())));
+        return result;
+    }
+
+    private Operation operation(String name) {
+        return operations.computeIfAbsent(name, key -> new Operation());
+    }
+
+    private static final class Operation {
+        private final Recorder recorder = new Recorder(3);
+        private final LongAdder errors = new LongAdder();
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.msl_loadtest;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+// Cómo se arranca un servicio: el jar normal, el de mvn -Pcds (AOT + CDS) o la imagen nativa de mvn -Pnative.
+public enum LaunchMode {
+
+    JAR {
+        @Override
+        public Path artifact(MslService service, Path projectRoot) {
+            return service.jar(projectRoot);
+        }
+
+        @Override
+        public List<String> command(MslService service, Path projectRoot, List<String> jvmArgs) {
+            List<String> command = new ArrayList<>();
+            command.add(javaExecutable());
+            command.addAll(jvmArgs);
+            command.addAll(List.of("-jar", artifact(service, projectRoot).toAbsolutePath().toString()));
+            return command;
+        }
+    },
+
+    CDS {
+        @Override
+        public Path artifact(MslService service, Path projectRoot) {
+            return service.cdsDirectory(projectRoot).resolve("application.jsa");
+        }
+
+        // Desde target/cds y con la misma ruta relativa del jar que en la corrida de entrenamiento: si el
+        // classpath no coincide la JVM ignora en silencio las clases de la aplicación del archivo
+        @Override
+        public List<String> command(MslService service, Path projectRoot, List<String> jvmArgs) {
+            List<String> command = new ArrayList<>();
+            command.add(javaExecutable());
+            command.addAll(jvmArgs);
+            command.addAll(List.of(
+                    "-XX:SharedArchiveFile=application.jsa",
+                    "-Dspring.aot.enabled=true",
+                    "-jar", service.jarName()));
+            return command;
+        }
+
+        @Override
+        public Path workingDirectory(MslService service, Path projectRoot, Path defaultDirectory) {
+            return service.cdsDirectory(projectRoot).toAbsolutePath();
+        }
+    },
+
+    NATIVE {
+        @Override
+        public Path artifact(MslService service, Path projectRoot) {
+            return service.nativeExecutable(projectRoot);
+        }
+
+        // -Xmx y demás opciones de la JVM no aplican a la imagen nativa
+        @Override
+        public List<String> command(MslService service, Path projectRoot, List<String> jvmArgs) {
+            return new ArrayList<>(List.of(artifact(service, projectRoot).toAbsolutePath().toString()));
+        }
+    };
+
+    public abstract Path artifact(MslService service, Path projectRoot);
+
+    public abstract List<String> command(MslService service, Path projectRoot, List<String> jvmArgs);
+
+    public Path workingDirectory(MslService service, Path projectRoot, Path defaultDirectory) {
+        return defaultDirectory;
+    }
+
+    public String buildHint(MslService service) {
+        return switch (this) {
+            case JAR -> "mvn -pl " + service.getArtifactId() + " -am package -DskipTests";
+            case CDS -> "mvn -pl " + service.getArtifactId() + " -am -Pcds package -DskipTests";
+            case NATIVE -> "mvn -pl " + service.getArtifactId() + " -am -Pnative native:compile -DskipTests";
+        };
+    }
+
+    public void checkBuilt(MslService service, Path projectRoot) {
+        Path artifact = artifact(service, projectRoot);
+        if (!Files.exists(artifact)) {
+            throw new IllegalStateException("No existe " + artifact + "; compilar antes con " + buildHint(service));
+        }
+    }
+
+    private static String javaExecutable() {
+        return Path.of(System.getProperty("java.home"), "bin", "java").toString();
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.msl_loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Resultado de una corrida: throughput y percentiles por operación. Se guarda en JSON para usarlo
+// como --baseline de la siguiente y detectar regresiones antes de publicar.
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoadReport {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private double durationSeconds;
+    private long failedIterations;
+    private Map<String, Long> startupMillis = new LinkedHashMap<>();
+    private Map<String, OperationResult> operations = new LinkedHashMap<>();
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class OperationResult {
+        private long count;
+        private long errors;
+        private double throughputPerSecond;
+        private double p50Ms;
+        private double p90Ms;
+        private double p99Ms;
+        private double p999Ms;
+        private double maxMs;
+    }
+
+    public static LoadReport from(Map<String, LatencyRecorder.Snapshot> snapshots, double seconds, long failedIterations) {
+        LoadReport report = new LoadReport();
+        report.durationSeconds = seconds;
+        report.failedIterations = failedIterations;
+        snapshots.forEach((name, snapshot) -> {
+            Histogram histogram = snapshot.histogram();
+            report.operations.put(name, OperationResult.builder()
+                    .count(histogram.getTotalCount())
+                    .errors(snapshot.errors())
+                    .throughputPerSecond(histogram.getTotalCount() / seconds)
+                    .p50Ms(millis(histogram.getValueAtPercentile(50)))
+                    .p90Ms(millis(histogram.getValueAtPercentile(90)))
+                    .p99Ms(millis(histogram.getValueAtPercentile(99)))
+                    .p999Ms(millis(histogram.getValueAtPercentile(99.9)))
+                    .maxMs(millis(histogram.getMaxValue()))
+                    .build());
+        });
+        return report;
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+    public String format() {
+        StringBuilder out = new StringBuilder();
+        out.append(String.format("%nDuración medida: %.1f s, iteraciones fallidas: %d%n", durationSeconds, failedIterations));
+        startupMillis.forEach((service, millis) -> out.append(String.format("Arranque %-22s %6d ms%n", service, millis)));
+        out.append(String.format("%n%-28s %9s %7s %9s %9s %9s %9s %9s %9s%n",
+                "operación", "total", "errores", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms"));
+        operations.forEach((name, r) -> out.append(String.format("%-28s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                name, r.count, r.errors, r.throughputPerSecond, r.p50Ms, r.p90Ms, r.p99Ms, r.p999Ms, r.maxMs)));
+        return out.toString();
+    }
+
+    public void write(Path file) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        MAPPER.writeValue(file.toFile(), this);
+    }
+
+    public static LoadReport read(Path file) throws IOException {
+        return MAPPER.readValue(file.toFile(), LoadReport.class);
+    }
+
+    // Regresión: p99 más alto o throughput más bajo que la línea base por más del porcentaje dado,
+    // o errores donde antes no había
+    public List<String> regressionsAgainst(LoadReport baseline, double maxRegressionPct) {
+        double factor = maxRegressionPct / 100.0;
+        List<String> regressions = new ArrayList<>();
+        baseline.operations.forEach((name, before) -> {
+            OperationResult now = operations.get(name);
+            if (now == null) {
+                regressions.add(name + ": sin mediciones en esta corrida");
+                return;
+            }
+            if (now.p99Ms > before.p99Ms * (1 + factor)) {
+                regressions.add(String.format("%s: p99 %.2f ms -> %.2f ms", name, before.p99Ms, now.p99Ms));
+            }
+            if (now.throughputPerSecond < before.throughputPerSecond * (1 - factor)) {
+                regressions.add(String.format("%s: throughput %.1f -> %.1f req/s", name,
+                        before.throughputPerSecond, now.throughputPerSecond));
+            }
+            if (before.errors == 0 && now.errors > 0) {
+                regressions.add(String.format("%s: %d errores (antes 0)", name, now.errors));
+            }
+        });
+        return regressions;
+    }
+}
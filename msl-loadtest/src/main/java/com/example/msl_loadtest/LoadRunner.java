@@ -0,0 +1,75 @@
+package com.example.msl_loadtest;
+
+import com.example.msl_loadtest.scenario.Scenario;
+import com.example.msl_loadtest.scenario.ScenarioContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// Modelo cerrado: cada escenario corre con --concurrency usuarios virtuales a la vez (todos los escenarios
+// en paralelo, como en un inicio de turno real), cada uno repitiendo su iteración hasta el final.
+// Lo medido durante --warmup se descarta.
+@Slf4j
+@RequiredArgsConstructor
+public class LoadRunner {
+
+    private final LoadTestOptions options;
+
+    public LoadReport run(List<Scenario> scenarios, ScenarioContext context) throws InterruptedException {
+        LatencyRecorder recorder = context.getRecorder();
+        LongAdder failedIterations = new LongAdder();
+        long end = System.nanoTime() + options.getWarmup().plus(options.getDuration()).toNanos();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (Scenario scenario : scenarios) {
+                for (int user = 0; user < options.getConcurrency(); user++) {
+                    int userIndex = user;
+                    executor.submit(() -> {
+                        while (System.nanoTime() < end && !Thread.currentThread().isInterrupted()) {
+                            try {
+                                scenario.iteration(context, userIndex);
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                                return;
+                            } catch (Exception e) {
+                                failedIterations.increment();
+                                log.debug("Iteración de {} fallida: {}", scenario.name(), e.getMessage());
+                            }
+                            pause();
+                        }
+                    });
+                }
+            }
+
+            log.info("Calentando {} s con {} usuarios por escenario", options.getWarmup().toSeconds(), options.getConcurrency());
+            Thread.sleep(options.getWarmup());
+            recorder.reset();
+            failedIterations.reset();
+            long measureStart = System.nanoTime();
+            log.info("Midiendo {} s", options.getDuration().toSeconds());
+            Thread.sleep(options.getDuration());
+            double seconds = (System.nanoTime() - measureStart) / 1e9;
+
+            LoadReport report = LoadReport.from(recorder.snapshot(), seconds, failedIterations.sum());
+            // Las iteraciones en curso terminan antes de cerrar el executor; no entran en el reporte
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+            return report;
+        }
+    }
+
+    private void pause() {
+        if (!options.getThinkTime().isZero()) {
+            try {
+                Thread.sleep(options.getThinkTime());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.msl_loadtest;
+
+import com.example.msl_loadtest.scenario.AssignedProjectsScenario;
+import com.example.msl_loadtest.scenario.DocumentDownloadScenario;
+import com.example.msl_loadtest.scenario.MaterialApprovalScenario;
+import com.example.msl_loadtest.scenario.NotificationFanOutScenario;
+import com.example.msl_loadtest.scenario.Scenario;
+import com.example.msl_loadtest.scenario.ScenarioContext;
+import com.example.msl_loadtest.scenario.ShiftStartScenario;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+// Prueba de carga de punta a punta: PostgreSQL local, auth-service simulado, los servicios que piden los
+// escenarios y el reporte de throughput y percentiles. Sale con código 1 si hay regresión contra --baseline.
+// Antes: mvn -pl project-service,worker-service,inventory-service,notification-service -am package -DskipTests
+@Slf4j
+public class LoadTestApplication {
+
+    private static final Map<String, Supplier<Scenario>> SCENARIOS = Map.of(
+            "shift-start", ShiftStartScenario::new,
+            "material-approval", MaterialApprovalScenario::new,
+            "document-download", DocumentDownloadScenario::new,
+            "notification-fanout", NotificationFanOutScenario::new,
+            "assigned-projects", AssignedProjectsScenario::new);
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        List<Scenario> scenarios = scenarios(options.getScenarios());
+        Set<MslService> services = EnumSet.noneOf(MslService.class);
+        scenarios.forEach(scenario -> services.addAll(scenario.services()));
+
+        LoadReport report;
+        try (LocalDatabase database = options.isBoot() ? LocalDatabase.start(options) : null;
+             StubAuthServer auth = StubAuthServer.start(options);
+             ServiceLauncher launcher = options.isBoot() ? new ServiceLauncher(options, database, auth) : null) {
+            if (launcher != null) {
+                for (MslService service : services) {
+                    launcher.start(service);
+                }
+            }
+
+            ScenarioContext context = new ScenarioContext(options, auth, new LatencyRecorder());
+            for (Scenario scenario : scenarios) {
+                log.info("Preparando datos de {}", scenario.name());
+                scenario.setUp(context);
+            }
+            try {
+                report = new LoadRunner(options).run(scenarios, context);
+            } finally {
+                scenarios.forEach(scenario -> scenario.tearDown(context));
+            }
+            if (launcher != null) {
+                report.setStartupMillis(launcher.getStartupMillis());
+            }
+        }
+
+        System.out.println(report.format());
+        report.write(options.getReportFile());
+        log.info("Reporte guardado en {}", options.getReportFile().toAbsolutePath());
+
+        if (options.getBaselineFile() != null) {
+            List<String> regressions = report.regressionsAgainst(LoadReport.read(options.getBaselineFile()),
+                    options.getMaxRegressionPct());
+            if (!regressions.isEmpty()) {
+                regressions.forEach(regression -> log.error("Regresión: {}", regression));
+                System.exit(1);
+            }
+            log.info("Sin regresiones de más de {}% contra {}", options.getMaxRegressionPct(), options.getBaselineFile());
+        }
+        System.exit(0);
+    }
+
+    private static List<Scenario> scenarios(List<String> names) {
+        if (names.contains("all")) {
+            names = List.of("shift-start", "material-approval", "document-download", "notification-fanout",
+                    "assigned-projects");
+        }
+        List<Scenario> scenarios = new ArrayList<>();
+        for (String name : names) {
+            Supplier<Scenario> scenario = SCENARIOS.get(name.trim());
+            if (scenario == null) {
+                throw new IllegalArgumentException("Escenario desconocido: " + name + "; disponibles: " + SCENARIOS.keySet());
+            }
+            scenarios.add(scenario.get());
+        }
+        return scenarios;
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.msl_loadtest;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Opciones de línea de comandos con la forma --clave=valor. Ej.:
+//   --scenarios=shift-start,material-approval --concurrency=100 --duration=2m --warmup=15s
+//   --db-url=jdbc:postgresql://localhost:5432/ --db-user=postgres --db-password=root   (sin esto: PostgreSQL embebido)
+//   --boot=false   (usar servicios ya levantados que apunten al auth simulado en --auth-port)
+//   --baseline=target/loadtest/baseline.json --max-regression-pct=10
+//   StartupBenchmark: --services=all --modes=jar,cds --runs=3 --startup-report=target/loadtest/startup.json
+@Getter
+@Builder
+public class LoadTestOptions {
+
+    private final List<String> scenarios;
+    private final int concurrency;
+    private final Duration duration;
+    private final Duration warmup;
+    private final Duration thinkTime;
+
+    private final boolean boot;
+    private final Path projectRoot;
+    private final String serviceJvmArgs;
+    private final Duration startupTimeout;
+
+    private final String databaseUrl;
+    private final String databaseUser;
+    private final String databasePassword;
+
+    private final int authPort;
+    private final Duration authLatency;
+
+    private final int workers;
+    private final int documents;
+    private final int documentSizeKb;
+    private final int subscribers;
+
+    private final Path reportFile;
+    private final Path baselineFile;
+    private final double maxRegressionPct;
+
+    private final List<String> services;
+    private final List<String> modes;
+    private final int runs;
+    private final Path startupReportFile;
+
+    public static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Argumento no reconocido: " + arg);
+            }
+            int eq = arg.indexOf('=');
+            values.put(eq > 0 ? arg.substring(2, eq) : arg.substring(2), eq > 0 ? arg.substring(eq + 1) : "true");
+        }
+
+        int concurrency = Integer.parseInt(values.getOrDefault("concurrency", "50"));
+        boolean boot = Boolean.parseBoolean(values.getOrDefault("boot", "true"));
+        return LoadTestOptions.builder()
+                .scenarios(Arrays.asList(values.getOrDefault("scenarios", "all").split(",")))
+                .concurrency(concurrency)
+                .duration(duration(values.getOrDefault("duration", "60s")))
+                .warmup(duration(values.getOrDefault("warmup", "10s")))
+                .thinkTime(duration(values.getOrDefault("think-time", "0ms")))
+                .boot(boot)
+                .projectRoot(values.containsKey("root") ? Path.of(values.get("root")) : defaultProjectRoot())
+                .serviceJvmArgs(values.getOrDefault("service-jvm-args", "-Xmx512m"))
+                .startupTimeout(duration(values.getOrDefault("startup-timeout", "180s")))
+                .databaseUrl(values.get("db-url"))
+                .databaseUser(values.getOrDefault("db-user", "postgres"))
+                .databasePassword(values.getOrDefault("db-password", "postgres"))
+                // Con --boot=false los servicios ya corriendo buscan auth-service en 8081
+                .authPort(Integer.parseInt(values.getOrDefault("auth-port", boot ? "0" : "8081")))
+                .authLatency(duration(values.getOrDefault("auth-latency", "0ms")))
+                .workers(Integer.parseInt(values.getOrDefault("workers", String.valueOf(concurrency))))
+                .documents(Integer.parseInt(values.getOrDefault("documents", "20")))
+                .documentSizeKb(Integer.parseInt(values.getOrDefault("document-size-kb", "256")))
+                .subscribers(Integer.parseInt(values.getOrDefault("subscribers", "200")))
+                .reportFile(Path.of(values.getOrDefault("report", "target/loadtest/report.json")))
+                .baselineFile(values.containsKey("baseline") ? Path.of(values.get("baseline")) : null)
+                .maxRegressionPct(Double.parseDouble(values.getOrDefault("max-regression-pct", "10")))
+                .services(Arrays.asList(values.getOrDefault("services", "all").split(",")))
+                .modes(Arrays.asList(values.getOrDefault("modes", "jar,cds").split(",")))
+                .runs(Integer.parseInt(values.getOrDefault("runs", "3")))
+                .startupReportFile(Path.of(values.getOrDefault("startup-report", "target/loadtest/startup.json")))
+                .build();
+    }
+
+    // 500ms, 30s, 2m
+    static Duration duration(String value) {
+        if (value.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+        }
+        long amount = Long.parseLong(value.substring(0, value.length() - 1));
+        return switch (value.charAt(value.length() - 1)) {
+            case 's' -> Duration.ofSeconds(amount);
+            case 'm' -> Duration.ofMinutes(amount);
+            default -> throw new IllegalArgumentException("Duración no válida: " + value);
+        };
+    }
+
+    // mvn exec:java corre desde msl-loadtest; los servicios están en el directorio padre
+    private static Path defaultProjectRoot() {
+        Path current = Path.of("").toAbsolutePath();
+        return Files.isDirectory(current.resolve("worker-service")) ? current : current.getParent();
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.msl_loadtest;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+// PostgreSQL para la prueba: embebido (binarios de zonky, sin instalar nada) o uno local con --db-url.
+// Cada servicio recibe su propia base <nombre>_loadtest, recreada en cada corrida.
+@Slf4j
+public class LocalDatabase implements AutoCloseable {
+
+    private final EmbeddedPostgres embedded;
+    private final String baseUrl;
+    private final String user;
+    private final String password;
+
+    private LocalDatabase(EmbeddedPostgres embedded, String baseUrl, String user, String password) {
+        this.embedded = embedded;
+        this.baseUrl = baseUrl;
+        this.user = user;
+        this.password = password;
+    }
+
+    public static LocalDatabase start(LoadTestOptions options) throws IOException {
+        if (options.getDatabaseUrl() != null) {
+            String url = options.getDatabaseUrl().endsWith("/") ? options.getDatabaseUrl() : options.getDatabaseUrl() + "/";
+            log.info("Usando PostgreSQL en {}", url);
+            return new LocalDatabase(null, url, options.getDatabaseUser(), options.getDatabasePassword());
+        }
+        EmbeddedPostgres embedded = EmbeddedPostgres.builder().start();
+        log.info("PostgreSQL embebido en el puerto {}", embedded.getPort());
+        return new LocalDatabase(embedded, "jdbc:postgresql://localhost:" + embedded.getPort() + "/", "postgres", "postgres");
+    }
+
+    public String createDatabase(String name) throws SQLException {
+        String database = name + "_loadtest";
+        try (Connection connection = DriverManager.getConnection(baseUrl + "postgres", user, password);
+             Statement statement = connection.createStatement()) {
+            if (exists(connection, database)) {
+                statement.execute("DROP DATABASE " + database + " WITH (FORCE)");
+            }
+            statement.execute("CREATE DATABASE " + database);
+        }
+        return baseUrl + database;
+    }
+
+    private static boolean exists(Connection connection, String database) throws SQLException {
+        try (PreparedStatement query = connection.prepareStatement("SELECT 1 FROM pg_database WHERE datname = ?")) {
+            query.setString(1, database);
+            try (ResultSet rs = query.executeQuery()) {
+                return rs.next();
+            }
+        }
+    }
+
+    public String getUser() {
+        return user;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (embedded != null) {
+            embedded.close();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.msl_loadtest;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.file.Path;
+
+// Servicios que el harness sabe levantar; los puertos son los de cada application.properties
+// para que las URLs entre servicios sigan funcionando sin cambios. AUTH solo lo usa StartupBenchmark:
+// en la prueba de carga auth-service es el simulado (StubAuthServer).
+@Getter
+@RequiredArgsConstructor
+public enum MslService {
+
+    AUTH("authService", 8081, "auth_service_db"),
+    PROJECT("project-service", 8082, "project_service_db"),
+    WORKER("worker-service", 8083, "worker_service_db"),
+    INVENTORY("inventory-service", 8084, "inventory_service_db"),
+    NOTIFICATION("notification-service", 8085, "notification_service_db"),
+    ANALYTICS("analytics-service", 8086, "analytics_service_db");
+
+    private final String artifactId;
+    private final int port;
+    private final String databaseName;
+
+    public String baseUrl() {
+        return "http://localhost:" + port;
+    }
+
+    public static MslService fromArtifactId(String artifactId) {
+        for (MslService service : values()) {
+            if (service.artifactId.equals(artifactId)) {
+                return service;
+            }
+        }
+        throw new IllegalArgumentException("Servicio desconocido: " + artifactId);
+    }
+
+    // Generado con mvn -pl <servicio> -am package -DskipTests
+    public Path jar(Path projectRoot) {
+        return target(projectRoot).resolve(jarName());
+    }
+
+    // Generado con mvn -pl <servicio> -am -Pcds package -DskipTests: jar extraído y application.jsa
+    public Path cdsDirectory(Path projectRoot) {
+        return target(projectRoot).resolve("cds");
+    }
+
+    // Generado con mvn -pl <servicio> -am -Pnative native:compile -DskipTests
+    public Path nativeExecutable(Path projectRoot) {
+        return target(projectRoot).resolve(artifactId);
+    }
+
+    public String jarName() {
+        return artifactId + "-0.0.1-SNAPSHOT.jar";
+    }
+
+    private Path target(Path projectRoot) {
+        return projectRoot.resolve(artifactId).resolve("target");
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.msl_loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// Levanta cada servicio como proceso aparte (java -jar, o el artefacto de LaunchMode), con su base en
+// LocalDatabase y auth-service apuntando al simulado; el resto de la configuración es la de su
+// application.properties. Procesos separados porque cada servicio trae su propia versión de Spring Boot.
+@Slf4j
+public class ServiceLauncher implements AutoCloseable {
+
+    private static final Path WORK_DIR = Path.of("target", "loadtest");
+
+    private final LoadTestOptions options;
+    private final LocalDatabase database;
+    private final StubAuthServer auth;
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(2)).build();
+    private final Map<MslService, Process> processes = new EnumMap<>(MslService.class);
+    private final Map<String, Long> startupMillis = new LinkedHashMap<>();
+
+    public ServiceLauncher(LoadTestOptions options, LocalDatabase database, StubAuthServer auth) {
+        this.options = options;
+        this.database = database;
+        this.auth = auth;
+    }
+
+    public long start(MslService service) throws Exception {
+        return start(service, LaunchMode.JAR);
+    }
+
+    // Devuelve el tiempo hasta la primera respuesta 200 de /actuator/health, desde que se lanza el proceso
+    public long start(MslService service, LaunchMode mode) throws Exception {
+        mode.checkBuilt(service, options.getProjectRoot());
+        // Directorio propio: notification-service guarda los documentos subidos en ./uploads
+        Path serviceDir = Files.createDirectories(WORK_DIR.resolve(service.getArtifactId()).toAbsolutePath());
+        Path workDir = mode.workingDirectory(service, options.getProjectRoot(), serviceDir);
+        Path logFile = serviceDir.resolve("service.log");
+
+        List<String> jvmArgs = options.getServiceJvmArgs().isBlank()
+                ? List.of() : Arrays.asList(options.getServiceJvmArgs().trim().split("\\s+"));
+        List<String> command = new ArrayList<>(mode.command(service, options.getProjectRoot(), jvmArgs));
+        command.addAll(List.of(
+                "--spring.datasource.url=" + database.createDatabase(service.getDatabaseName()),
+                "--spring.datasource.username=" + database.getUser(),
+                "--spring.datasource.password=" + database.getPassword(),
+                "--auth.service.url=" + auth.baseUrl()));
+
+        long startedAt = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .directory(workDir.toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(logFile.toFile())
+                .start();
+        processes.put(service, process);
+        awaitHealthy(service, process, logFile);
+
+        long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        startupMillis.put(service.getArtifactId(), millis);
+        log.info("{} ({}) listo en {} ms (log en {})", service.getArtifactId(), mode, millis, logFile);
+        return millis;
+    }
+
+    // Memoria residente del proceso en KB (VmRSS de /proc; -1 fuera de Linux)
+    public long residentSetKb(MslService service) throws IOException {
+        Path status = Path.of("/proc", String.valueOf(processes.get(service).pid()), "status");
+        if (!Files.exists(status)) {
+            return -1;
+        }
+        for (String line : Files.readAllLines(status)) {
+            if (line.startsWith("VmRSS:")) {
+                return Long.parseLong(line.replaceAll("\\D", ""));
+            }
+        }
+        return -1;
+    }
+
+    public void stop(MslService service) throws InterruptedException {
+        Process process = processes.remove(service);
+        if (process != null) {
+            stop(process);
+        }
+    }
+
+    private void awaitHealthy(MslService service, Process process, Path logFile) throws Exception {
+        long deadline = System.nanoTime() + options.getStartupTimeout().toNanos();
+        HttpRequest health = HttpRequest.newBuilder(URI.create(service.baseUrl() + "/actuator/health"))
+                .timeout(Duration.ofSeconds(2))
+                .build();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException(service.getArtifactId() + " terminó al arrancar; ver " + logFile);
+            }
+            try {
+                if (client.send(health, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException e) {
+                // Todavía no escucha en el puerto
+            }
+            // Intervalo corto: StartupBenchmark mide con esto el tiempo hasta la primera respuesta
+            Thread.sleep(50);
+        }
+        throw new IllegalStateException(service.getArtifactId() + " no respondió /actuator/health a tiempo; ver " + logFile);
+    }
+
+    public Map<String, Long> getStartupMillis() {
+        return startupMillis;
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        for (Process process : processes.values()) {
+            process.destroy();
+        }
+        for (Process process : processes.values()) {
+            stop(process);
+        }
+        processes.clear();
+    }
+
+    private static void stop(Process process) throws InterruptedException {
+        process.destroy();
+        if (!process.waitFor(15, TimeUnit.SECONDS)) {
+            process.destroyForcibly().waitFor();
+        }
+    }
+}
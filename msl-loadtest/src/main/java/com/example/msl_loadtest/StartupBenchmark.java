@@ -0,0 +1,54 @@
+package com.example.msl_loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// Tiempo de arranque de cada servicio: desde que se lanza el proceso hasta la primera respuesta 200 de
+// /actuator/health, y la memoria residente en ese momento. Cada corrida arranca en frío contra una base
+// recién creada y el proceso se detiene antes de la siguiente, así que los servicios no compiten entre sí.
+// Antes: mvn -pl <servicios> -am package -DskipTests, y con -Pcds (o -Pnative native:compile) para esos modos.
+// Ejecutar: mvn exec:java -Dexec.mainClass=com.example.msl_loadtest.StartupBenchmark -Dexec.args="--modes=jar,cds --runs=3"
+@Slf4j
+public class StartupBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        List<MslService> services = options.getServices().contains("all")
+                ? Arrays.asList(MslService.values())
+                : options.getServices().stream().map(String::trim).map(MslService::fromArtifactId).toList();
+        List<LaunchMode> modes = options.getModes().stream()
+                .map(mode -> LaunchMode.valueOf(mode.trim().toUpperCase()))
+                .toList();
+        for (MslService service : services) {
+            for (LaunchMode mode : modes) {
+                mode.checkBuilt(service, options.getProjectRoot());
+            }
+        }
+
+        StartupReport report = new StartupReport();
+        try (LocalDatabase database = LocalDatabase.start(options);
+             StubAuthServer auth = StubAuthServer.start(options);
+             ServiceLauncher launcher = new ServiceLauncher(options, database, auth)) {
+            for (MslService service : services) {
+                for (LaunchMode mode : modes) {
+                    List<Long> millis = new ArrayList<>();
+                    List<Long> rss = new ArrayList<>();
+                    for (int run = 0; run < options.getRuns(); run++) {
+                        millis.add(launcher.start(service, mode));
+                        rss.add(launcher.residentSetKb(service));
+                        launcher.stop(service);
+                    }
+                    report.add(service, mode, millis, rss);
+                }
+            }
+        }
+
+        System.out.println(report.format());
+        report.write(options.getStartupReportFile());
+        log.info("Reporte guardado en {}", options.getStartupReportFile().toAbsolutePath());
+        System.exit(0);
+    }
+}
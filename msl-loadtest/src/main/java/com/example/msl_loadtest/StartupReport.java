@@ -0,0 +1,75 @@
+package com.example.msl_loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+// Resultado de StartupBenchmark: por servicio y forma de arranque, tiempo hasta la primera respuesta
+// y memoria residente justo después, con la mediana y el mínimo de las corridas.
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StartupReport {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private List<Result> results = new ArrayList<>();
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Result {
+        private String service;
+        private String mode;
+        private List<Long> firstRequestMillis;
+        private List<Long> rssKb;
+        private long medianFirstRequestMillis;
+        private long minFirstRequestMillis;
+        private long medianRssKb;
+    }
+
+    public void add(MslService service, LaunchMode mode, List<Long> firstRequestMillis, List<Long> rssKb) {
+        results.add(Result.builder()
+                .service(service.getArtifactId())
+                .mode(mode.name().toLowerCase())
+                .firstRequestMillis(firstRequestMillis)
+                .rssKb(rssKb)
+                .medianFirstRequestMillis(median(firstRequestMillis))
+                .minFirstRequestMillis(firstRequestMillis.stream().mapToLong(Long::longValue).min().orElse(0))
+                .medianRssKb(median(rssKb))
+                .build());
+    }
+
+    private static long median(List<Long> values) {
+        List<Long> sorted = values.stream().sorted().toList();
+        return sorted.isEmpty() ? 0 : sorted.get(sorted.size() / 2);
+    }
+
+    public String format() {
+        StringBuilder out = new StringBuilder();
+        out.append(String.format("%n%-22s %-7s %15s %12s %12s%n",
+                "servicio", "modo", "1a resp. p50 ms", "mín. ms", "RSS p50 MB"));
+        for (Result r : results) {
+            out.append(String.format("%-22s %-7s %15d %12d %12.1f%n", r.service, r.mode,
+                    r.medianFirstRequestMillis, r.minFirstRequestMillis, r.medianRssKb / 1024.0));
+        }
+        return out.toString();
+    }
+
+    public void write(Path file) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        MAPPER.writeValue(file.toFile(), this);
+    }
+}
@@ -0,0 +1,156 @@
+package com.example.msl_loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.crypto.RSASSAVerifier;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+
+// auth-service simulado: firma JWT RS256 con la misma forma que el real (sub, roles, userId, kid) y
+// atiende las rutas que usan msl-security y worker-service (/jwks, /validate, /revoked, /register) más /login.
+// Las contraseñas no se verifican; --auth-latency simula el costo de bcrypt en /login.
+@Slf4j
+public class StubAuthServer implements AutoCloseable {
+
+    private static final Duration TOKEN_TTL = Duration.ofHours(2);
+
+    public record StubUser(UUID id, String username, List<String> roles) {
+    }
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, StubUser> users = new ConcurrentHashMap<>();
+    private final Duration loginLatency;
+    private final RSAKey key;
+    private final HttpServer server;
+
+    private StubAuthServer(int port, Duration loginLatency) throws IOException, JOSEException {
+        this.loginLatency = loginLatency;
+        this.key = new RSAKeyGenerator(2048).keyID("loadtest").generate();
+        this.server = HttpServer.create(new InetSocketAddress("localhost", port), 0);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/api/auth/jwks", exchange ->
+                respond(exchange, 200, new JWKSet(key.toPublicJWK()).toJSONObject()));
+        server.createContext("/api/auth/revoked", exchange -> respond(exchange, 200, List.of()));
+        server.createContext("/api/auth/register", this::register);
+        server.createContext("/api/auth/login", this::login);
+        server.createContext("/api/auth/validate", this::validate);
+    }
+
+    public static StubAuthServer start(LoadTestOptions options) throws IOException, JOSEException {
+        StubAuthServer stub = new StubAuthServer(options.getAuthPort(), options.getAuthLatency());
+        stub.server.start();
+        log.info("auth-service simulado en {}", stub.baseUrl());
+        return stub;
+    }
+
+    public String baseUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    public StubUser createUser(String username, String role) {
+        return users.computeIfAbsent(username, name -> new StubUser(UUID.randomUUID(), name, List.of(role)));
+    }
+
+    public String issueToken(StubUser user) {
+        Instant now = Instant.now();
+        JWTClaimsSet claims = new JWTClaimsSet.Builder()
+                .subject(user.username())
+                .claim("roles", user.roles())
+                .claim("userId", user.id().toString())
+                .issueTime(Date.from(now))
+                .expirationTime(Date.from(now.plus(TOKEN_TTL)))
+                .build();
+        SignedJWT jwt = new SignedJWT(new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(key.getKeyID()).build(), claims);
+        try {
+            jwt.sign(new RSASSASigner(key));
+        } catch (JOSEException e) {
+            throw new IllegalStateException("No se pudo firmar el token", e);
+        }
+        return jwt.serialize();
+    }
+
+    // Misma respuesta que UserResponse de auth-service; worker-service usa el id como id del trabajador
+    private void register(HttpExchange exchange) throws IOException {
+        Map<?, ?> body = objectMapper.readValue(exchange.getRequestBody(), Map.class);
+        StubUser user = createUser((String) body.get("username"), "trabajador");
+        respond(exchange, 201, Map.of("id", user.id(), "username", user.username(), "email", body.get("email")));
+    }
+
+    private void login(HttpExchange exchange) throws IOException {
+        Map<?, ?> body = objectMapper.readValue(exchange.getRequestBody(), Map.class);
+        StubUser user = users.get((String) body.get("username"));
+        if (user == null) {
+            respond(exchange, 401, Map.of("error", "Credenciales inválidas"));
+            return;
+        }
+        if (!loginLatency.isZero()) {
+            try {
+                Thread.sleep(loginLatency);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        respond(exchange, 200, Map.of(
+                "token", issueToken(user),
+                "tokenType", "Bearer",
+                "userId", user.id().toString(),
+                "username", user.username(),
+                "roles", user.roles(),
+                "expiresIn", TOKEN_TTL.toSeconds()));
+    }
+
+    // Para servicios con auth.jwt.local-verification=false
+    private void validate(HttpExchange exchange) throws IOException {
+        String header = exchange.getRequestHeaders().getFirst("Authorization");
+        String token = header != null && header.startsWith("Bearer ") ? header.substring(7) : header;
+        try {
+            SignedJWT jwt = SignedJWT.parse(token);
+            if (!jwt.verify(new RSASSAVerifier(key.toRSAPublicKey()))
+                    || jwt.getJWTClaimsSet().getExpirationTime().before(new Date())) {
+                respond(exchange, 401, Map.of());
+                return;
+            }
+            JWTClaimsSet claims = jwt.getJWTClaimsSet();
+            respond(exchange, 200, Map.of(
+                    "username", claims.getSubject(),
+                    "roles", claims.getStringListClaim("roles"),
+                    "userId", claims.getStringClaim("userId")));
+        } catch (Exception e) {
+            respond(exchange, 401, Map.of());
+        }
+    }
+
+    private void respond(HttpExchange exchange, int status, Object body) throws IOException {
+        byte[] bytes = objectMapper.writeValueAsBytes(body);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (var out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
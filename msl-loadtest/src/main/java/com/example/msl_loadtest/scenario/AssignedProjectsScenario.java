@@ -0,0 +1,78 @@
+package com.example.msl_loadtest.scenario;
+
+import com.example.msl_loadtest.MslService;
+import com.example.msl_loadtest.StubAuthServer;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+// Pantalla de inicio de la app: cada trabajador consulta sus proyectos asignados una y otra vez y, de vez
+// en cuando, un administrador le asigna otro proyecto (lo que invalida su entrada en la caché).
+public class AssignedProjectsScenario implements Scenario {
+
+    private static final int PROJECTS = 50;
+    private static final int PROJECTS_PER_WORKER = 3;
+    private static final int REASSIGN_EVERY = 50;
+
+    private record SeededWorker(UUID id, String token) {
+    }
+
+    private final List<SeededWorker> workers = new ArrayList<>();
+    private final List<UUID> projects = new ArrayList<>();
+
+    @Override
+    public String name() {
+        return "assigned-projects";
+    }
+
+    @Override
+    public Set<MslService> services() {
+        return Set.of(MslService.PROJECT);
+    }
+
+    @Override
+    public void setUp(ScenarioContext context) throws Exception {
+        String base = MslService.PROJECT.baseUrl() + "/api/projects";
+        for (int i = 0; i < PROJECTS; i++) {
+            JsonNode project = context.seed(base, Map.of(
+                    "name", "Proyecto de carga " + i,
+                    "description", "Instalación de piso en obra " + i,
+                    "budget", BigDecimal.valueOf(150_000),
+                    "startDate", LocalDate.now().toString(),
+                    "endDate", LocalDate.now().plusMonths(2).toString(),
+                    "latitude", new BigDecimal("25.686614"),
+                    "longitude", new BigDecimal("-100.316113")));
+            projects.add(UUID.fromString(project.get("id").asText()));
+        }
+        for (int i = 0; i < context.getOptions().getWorkers(); i++) {
+            StubAuthServer.StubUser user = context.getAuth().createUser("assigned-" + i + "@loadtest.local", "trabajador");
+            for (int p = 0; p < PROJECTS_PER_WORKER; p++) {
+                context.seed(base + "/assign-worker", Map.of(
+                        "workerId", user.id(),
+                        "projectId", projects.get((i * PROJECTS_PER_WORKER + p) % projects.size())));
+            }
+            workers.add(new SeededWorker(user.id(), context.getAuth().issueToken(user)));
+        }
+    }
+
+    @Override
+    public void iteration(ScenarioContext context, int user) throws Exception {
+        SeededWorker worker = workers.get(user % workers.size());
+        String base = MslService.PROJECT.baseUrl() + "/api/projects";
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        context.get("project.my-assigned", base + "/my-assigned", worker.token());
+        if (random.nextInt(REASSIGN_EVERY) == 0) {
+            context.post("project.assign-worker", base + "/assign-worker", context.getAdminToken(), Map.of(
+                    "workerId", worker.id(),
+                    "projectId", projects.get(random.nextInt(projects.size()))));
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.msl_loadtest.scenario;
+
+import com.example.msl_loadtest.MslService;
+
+import java.io.ByteArrayOutputStream;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+// Descarga de documentos: se suben --documents archivos de --document-size-kb y cada usuario virtual
+// descarga uno al azar, leyendo el cuerpo completo.
+public class DocumentDownloadScenario implements Scenario {
+
+    private final List<UUID> documents = new ArrayList<>();
+    private int expectedSize;
+
+    @Override
+    public String name() {
+        return "document-download";
+    }
+
+    @Override
+    public Set<MslService> services() {
+        return Set.of(MslService.NOTIFICATION);
+    }
+
+    @Override
+    public void setUp(ScenarioContext context) throws Exception {
+        expectedSize = context.getOptions().getDocumentSizeKb() * 1024;
+        UUID uploadedBy = UUID.randomUUID();
+        UUID projectId = UUID.randomUUID();
+        for (int i = 0; i < context.getOptions().getDocuments(); i++) {
+            byte[] content = new byte[expectedSize];
+            ThreadLocalRandom.current().nextBytes(content);
+
+            String boundary = "loadtest-" + UUID.randomUUID();
+            byte[] body = multipart(boundary, "plano-" + i + ".pdf", content, uploadedBy, projectId);
+            String id = context.json(context.send(context.request(
+                            MslService.NOTIFICATION.baseUrl() + "/api/documents/upload", context.getAdminToken())
+                    .header("Content-Type", "multipart/form-data; boundary=" + boundary)
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(body))))
+                    .get("id").asText();
+            documents.add(UUID.fromString(id));
+        }
+    }
+
+    @Override
+    public void iteration(ScenarioContext context, int user) throws Exception {
+        UUID id = documents.get(ThreadLocalRandom.current().nextInt(documents.size()));
+        byte[] content = context.download("document.download",
+                MslService.NOTIFICATION.baseUrl() + "/api/documents/" + id + "/download", context.getAdminToken());
+        if (content.length != expectedSize) {
+            context.getRecorder().recordError("document.download");
+            throw new IllegalStateException("Documento " + id + " incompleto: " + content.length + " bytes");
+        }
+    }
+
+    private static byte[] multipart(String boundary, String filename, byte[] content, UUID uploadedBy, UUID projectId) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(content.length + 1024);
+        field(out, boundary, "filename", filename);
+        field(out, boundary, "uploadedBy", uploadedBy.toString());
+        field(out, boundary, "projectId", projectId.toString());
+        out.writeBytes(("--" + boundary + "\r\n"
+                + "Content-Disposition: form-data; name=\"file\"; filename=\"" + filename + "\"\r\n"
+                + "Content-Type: application/pdf\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+        out.writeBytes(content);
+        out.writeBytes(("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.UTF_8));
+        return out.toByteArray();
+    }
+
+    private static void field(ByteArrayOutputStream out, String boundary, String name, String value) {
+        out.writeBytes(("--" + boundary + "\r\n"
+                + "Content-Disposition: form-data; name=\"" + name + "\"\r\n\r\n"
+                + value + "\r\n").getBytes(StandardCharsets.UTF_8));
+    }
+}
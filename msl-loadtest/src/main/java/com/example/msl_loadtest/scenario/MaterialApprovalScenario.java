@@ -0,0 +1,56 @@
+package com.example.msl_loadtest.scenario;
+
+import com.example.msl_loadtest.MslService;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+// Aprobación de materiales: un encargado pide material para su proyecto, el supervisor revisa la lista
+// de pendientes y aprueba la solicitud (lo que registra la salida de inventario).
+public class MaterialApprovalScenario implements Scenario {
+
+    private static final int PROJECTS = 10;
+    private static final int MATERIALS = 25;
+
+    private final List<UUID> projects = new ArrayList<>();
+    private final List<UUID> materials = new ArrayList<>();
+
+    @Override
+    public String name() {
+        return "material-approval";
+    }
+
+    @Override
+    public Set<MslService> services() {
+        return Set.of(MslService.INVENTORY);
+    }
+
+    @Override
+    public void setUp(ScenarioContext context) {
+        for (int i = 0; i < PROJECTS; i++) {
+            projects.add(UUID.randomUUID());
+        }
+        for (int i = 0; i < MATERIALS; i++) {
+            materials.add(UUID.randomUUID());
+        }
+    }
+
+    @Override
+    public void iteration(ScenarioContext context, int user) throws Exception {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String base = MslService.INVENTORY.baseUrl() + "/api/material-requests";
+        String token = context.getAdminToken();
+
+        JsonNode request = context.post("material-request.create", base, token, Map.of(
+                "projectId", projects.get(random.nextInt(projects.size())),
+                "materialId", materials.get(random.nextInt(materials.size())),
+                "quantity", random.nextInt(1, 50)));
+        context.get("material-request.pending", base + "/pending", token);
+        context.put("material-request.approve", base + "/" + request.get("id").asText() + "/approve", token);
+    }
+}
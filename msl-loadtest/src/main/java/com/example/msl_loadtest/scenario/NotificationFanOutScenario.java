@@ -0,0 +1,72 @@
+package com.example.msl_loadtest.scenario;
+
+import com.example.msl_loadtest.MslService;
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// Difusión de notificaciones: --subscribers clientes STOMP escuchan /topic/notifications y cada usuario
+// virtual publica una notificación global. notification.delivery mide desde el POST hasta que cada
+// suscriptor recibe el mensaje (el título lleva el System.nanoTime() del envío).
+@Slf4j
+public class NotificationFanOutScenario implements Scenario {
+
+    private static final String TITLE_PREFIX = "loadtest:";
+
+    private final List<StompSubscriber> subscribers = new ArrayList<>();
+    private final LongAdder published = new LongAdder();
+    private final LongAdder delivered = new LongAdder();
+
+    @Override
+    public String name() {
+        return "notification-fanout";
+    }
+
+    @Override
+    public Set<MslService> services() {
+        return Set.of(MslService.NOTIFICATION);
+    }
+
+    @Override
+    public void setUp(ScenarioContext context) throws Exception {
+        for (int i = 0; i < context.getOptions().getSubscribers(); i++) {
+            subscribers.add(StompSubscriber.subscribe(context.getHttpClient(), MslService.NOTIFICATION.baseUrl(),
+                    "/topic/notifications", context.getObjectMapper(), message -> onDelivery(context, message)));
+        }
+        // El SUBSCRIBE no tiene confirmación; se da margen para que el broker registre a todos
+        Thread.sleep(1000);
+    }
+
+    @Override
+    public void iteration(ScenarioContext context, int user) throws Exception {
+        context.post("notification.create", MslService.NOTIFICATION.baseUrl() + "/api/notifications",
+                context.getAdminToken(), Map.of(
+                        "title", TITLE_PREFIX + System.nanoTime(),
+                        "message", "Cambio de turno en el proyecto " + user,
+                        "type", "INFO"));
+        published.increment();
+    }
+
+    private void onDelivery(ScenarioContext context, JsonNode message) {
+        String title = message.path("title").asText("");
+        if (title.startsWith(TITLE_PREFIX)) {
+            long sentAt = Long.parseLong(title.substring(TITLE_PREFIX.length()));
+            context.getRecorder().recordMicros("notification.delivery",
+                    TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - sentAt));
+            delivered.increment();
+        }
+    }
+
+    @Override
+    public void tearDown(ScenarioContext context) {
+        long expected = published.sum() * subscribers.size();
+        log.info("Notificaciones entregadas: {} de {} esperadas", delivered.sum(), expected);
+        subscribers.forEach(StompSubscriber::close);
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.msl_loadtest.scenario;
+
+import com.example.msl_loadtest.MslService;
+
+import java.util.Set;
+
+// Un flujo de uso real. setUp siembra los datos que necesita (sin medir); iteration es lo que repite
+// cada usuario virtual durante la prueba, midiendo cada llamada con ScenarioContext.
+public interface Scenario {
+
+    String name();
+
+    Set<MslService> services();
+
+    void setUp(ScenarioContext context) throws Exception;
+
+    void iteration(ScenarioContext context, int user) throws Exception;
+
+    default void tearDown(ScenarioContext context) {
+    }
+}
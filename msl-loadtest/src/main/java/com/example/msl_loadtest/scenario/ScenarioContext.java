@@ -0,0 +1,84 @@
+package com.example.msl_loadtest.scenario;
+
+import com.example.msl_loadtest.LatencyRecorder;
+import com.example.msl_loadtest.LoadTestOptions;
+import com.example.msl_loadtest.StubAuthServer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
+// Cliente HTTP compartido por los usuarios virtuales; cada llamada medida queda en el LatencyRecorder
+// con el nombre de la operación. Una respuesta que no es 2xx cuenta como error.
+@Getter
+public class ScenarioContext {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final LoadTestOptions options;
+    private final StubAuthServer auth;
+    private final LatencyRecorder recorder;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final String adminToken;
+
+    public ScenarioContext(LoadTestOptions options, StubAuthServer auth, LatencyRecorder recorder) {
+        this.options = options;
+        this.auth = auth;
+        this.recorder = recorder;
+        this.adminToken = auth.issueToken(auth.createUser("admin@loadtest.local", "administrador"));
+    }
+
+    public JsonNode get(String operation, String url, String token) throws Exception {
+        return recorder.time(operation, () -> json(send(request(url, token).GET())));
+    }
+
+    public byte[] download(String operation, String url, String token) throws Exception {
+        return recorder.time(operation, () -> send(request(url, token).GET()).body());
+    }
+
+    public JsonNode post(String operation, String url, String token, Object body) throws Exception {
+        return recorder.time(operation, () -> json(send(request(url, token)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body))))));
+    }
+
+    public JsonNode put(String operation, String url, String token) throws Exception {
+        return recorder.time(operation, () -> json(send(request(url, token).PUT(HttpRequest.BodyPublishers.noBody()))));
+    }
+
+    // Sin medir y como administrador: para sembrar datos en setUp
+    public JsonNode seed(String url, Object body) throws IOException, InterruptedException {
+        return json(send(request(url, adminToken)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))));
+    }
+
+    public HttpResponse<byte[]> send(HttpRequest.Builder request) throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() / 100 != 2) {
+            throw new IllegalStateException(response.request().method() + " " + response.uri()
+                    + " respondió " + response.statusCode());
+        }
+        return response;
+    }
+
+    public HttpRequest.Builder request(String url, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url)).timeout(REQUEST_TIMEOUT);
+        return token != null ? builder.header("Authorization", "Bearer " + token) : builder;
+    }
+
+    public JsonNode json(HttpResponse<byte[]> response) throws IOException {
+        return response.body().length == 0 ? objectMapper.nullNode() : objectMapper.readTree(response.body());
+    }
+}
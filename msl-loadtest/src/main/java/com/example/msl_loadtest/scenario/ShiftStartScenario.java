@@ -0,0 +1,77 @@
+package com.example.msl_loadtest.scenario;
+
+import com.example.msl_loadtest.MslService;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+// Inicio de turno: cada trabajador inicia sesión, marca entrada en su proyecto, la app consulta el
+// estado de asistencia y, para que la corrida no acumule registros abiertos, marca salida.
+public class ShiftStartScenario implements Scenario {
+
+    private static final int PROJECTS = 10;
+
+    private record SeededWorker(UUID id, String email) {
+    }
+
+    private final List<SeededWorker> workers = new ArrayList<>();
+    private final List<UUID> projects = new ArrayList<>();
+
+    @Override
+    public String name() {
+        return "shift-start";
+    }
+
+    @Override
+    public Set<MslService> services() {
+        return Set.of(MslService.WORKER);
+    }
+
+    @Override
+    public void setUp(ScenarioContext context) throws Exception {
+        for (int i = 0; i < PROJECTS; i++) {
+            projects.add(UUID.randomUUID());
+        }
+        // POST /api/workers registra también al usuario en el auth simulado
+        String url = MslService.WORKER.baseUrl() + "/api/workers";
+        for (int i = 0; i < context.getOptions().getWorkers(); i++) {
+            String email = "worker-" + i + "@loadtest.local";
+            JsonNode worker = context.seed(url, Map.of(
+                    "firstName", "Carga",
+                    "lastName", String.valueOf(i),
+                    "email", email,
+                    "phone", "555-0100",
+                    "dateHired", LocalDate.now().toString(),
+                    "password", "loadtest"));
+            workers.add(new SeededWorker(UUID.fromString(worker.get("id").asText()), email));
+        }
+    }
+
+    @Override
+    public void iteration(ScenarioContext context, int user) throws Exception {
+        SeededWorker worker = workers.get(user % workers.size());
+        UUID projectId = projects.get(user % projects.size());
+
+        JsonNode login = context.post("auth.login", context.getAuth().baseUrl() + "/api/auth/login", null,
+                Map.of("username", worker.email(), "password", "loadtest"));
+        String token = login.get("token").asText();
+
+        String base = MslService.WORKER.baseUrl() + "/api/workers/attendance";
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Map<String, Object> position = Map.of(
+                "workerId", worker.id(),
+                "projectId", projectId,
+                "latitude", 25.68 + random.nextDouble(0.01),
+                "longitude", -100.31 + random.nextDouble(0.01));
+
+        JsonNode attendance = context.post("worker.check-in", base + "/check-in", token, position);
+        context.get("worker.attendance-status", base + "/status?projectId=" + projectId, token);
+        context.post("worker.check-out", base + "/check-out/" + attendance.get("id").asText(), token, position);
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.msl_loadtest.scenario;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.WebSocket;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+// Cliente STOMP mínimo sobre el transporte websocket de SockJS (/ws/{servidor}/{sesión}/websocket),
+// como el que usa la app para recibir notificaciones. Cada cuerpo de MESSAGE se entrega al consumer.
+@Slf4j
+public class StompSubscriber implements WebSocket.Listener {
+
+    private static final char NULL = '\u0000';
+
+    private final ObjectMapper objectMapper;
+    private final String destination;
+    private final Consumer<JsonNode> onMessage;
+    private final CompletableFuture<Void> connected = new CompletableFuture<>();
+    private final StringBuilder partial = new StringBuilder();
+    private volatile WebSocket webSocket;
+
+    private StompSubscriber(ObjectMapper objectMapper, String destination, Consumer<JsonNode> onMessage) {
+        this.objectMapper = objectMapper;
+        this.destination = destination;
+        this.onMessage = onMessage;
+    }
+
+    public static StompSubscriber subscribe(HttpClient client, String baseUrl, String destination,
+                                            ObjectMapper objectMapper, Consumer<JsonNode> onMessage) throws Exception {
+        StompSubscriber subscriber = new StompSubscriber(objectMapper, destination, onMessage);
+        String url = baseUrl.replaceFirst("^http", "ws") + "/ws/" + ThreadLocalRandom.current().nextInt(1000)
+                + "/" + Long.toHexString(ThreadLocalRandom.current().nextLong()) + "/websocket";
+        client.newWebSocketBuilder().buildAsync(URI.create(url), subscriber).get(10, TimeUnit.SECONDS);
+        subscriber.connected.get(10, TimeUnit.SECONDS);
+        return subscriber;
+    }
+
+    @Override
+    public void onOpen(WebSocket webSocket) {
+        this.webSocket = webSocket;
+        webSocket.request(1);
+    }
+
+    @Override
+    public CompletionStage<?> onText(WebSocket webSocket, CharSequence data, boolean last) {
+        partial.append(data);
+        if (last) {
+            String frame = partial.toString();
+            partial.setLength(0);
+            handleSockJs(frame);
+        }
+        webSocket.request(1);
+        return null;
+    }
+
+    // o = abierto, h = latido, a[...] = frames STOMP, c[...] = cerrado
+    private void handleSockJs(String frame) {
+        try {
+            switch (frame.charAt(0)) {
+                case 'o' -> send("CONNECT\naccept-version:1.2\nheart-beat:0,0\n\n");
+                case 'a' -> {
+                    for (String stomp : objectMapper.readValue(frame.substring(1), String[].class)) {
+                        handleStomp(stomp);
+                    }
+                }
+                case 'c' -> log.warn("SockJS cerró la sesión: {}", frame);
+                default -> {
+                }
+            }
+        } catch (Exception e) {
+            connected.completeExceptionally(e);
+            log.warn("Frame de SockJS no válido: {}", e.getMessage());
+        }
+    }
+
+    private void handleStomp(String stomp) throws Exception {
+        int headersEnd = stomp.indexOf("\n\n");
+        String command = stomp.substring(0, stomp.indexOf('\n'));
+        switch (command) {
+            case "CONNECTED" -> {
+                send("SUBSCRIBE\nid:sub-0\ndestination:" + destination + "\n\n");
+                connected.complete(null);
+            }
+            case "MESSAGE" -> {
+                int end = stomp.indexOf(NULL, headersEnd);
+                onMessage.accept(objectMapper.readTree(stomp.substring(headersEnd + 2, end < 0 ? stomp.length() : end)));
+            }
+            case "ERROR" -> connected.completeExceptionally(new IllegalStateException(stomp));
+            default -> {
+            }
+        }
+    }
+
+    private void send(String stompFrame) throws Exception {
+        webSocket.sendText(objectMapper.writeValueAsString(new String[]{stompFrame + NULL}), true);
+    }
+
+    public void close() {
+        webSocket.sendClose(WebSocket.NORMAL_CLOSURE, "fin");
+    }
+}
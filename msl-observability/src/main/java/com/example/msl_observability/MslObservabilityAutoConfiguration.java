@@ -0,0 +1,158 @@
+package com.example.msl_observability;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.metrics.MeterRegistryCustomizer;
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+// Métricas comunes: basta con depender de msl-observability y exponer "prometheus" en
+// management.endpoints.web.exposure.include. Pool de Hikari y JVM los publica actuator por su cuenta.
+// Trazas: Spring Boot propaga traceparent (W3C) en peticiones entrantes, RestTemplate y WebClient creados
+// con sus builders; los spans terminados van a los SpanExporter de abajo, sin colector externo.
+@AutoConfiguration
+public class MslObservabilityAutoConfiguration {
+
+    // Todas las métricas llevan el nombre del servicio para distinguirlas en Prometheus
+    @Bean
+    public MeterRegistryCustomizer<MeterRegistry> applicationTagCustomizer(
+            @Value("${spring.application.name:unknown}") String application) {
+        return registry -> registry.config().commonTags("application", application);
+    }
+
+    // Histogramas (buckets _bucket) para poder calcular p95/p99 agregando instancias
+    @Bean
+    public MeterFilter latencyHistogramFilter(
+            @Value("${msl.observability.histogram-meters:http.server.requests,auth.client.requests,spring.data.repository.invocations}")
+            List<String> histogramMeters,
+            @Value("${msl.observability.histogram-max-ms:10000}") long maxExpectedMs) {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (!histogramMeters.contains(id.getName())) {
+                    return config;
+                }
+                return DistributionStatisticConfig.builder()
+                        .percentilesHistogram(true)
+                        .minimumExpectedValue((double) Duration.ofMillis(1).toNanos())
+                        .maximumExpectedValue((double) Duration.ofMillis(maxExpectedMs).toNanos())
+                        .build()
+                        .merge(config);
+            }
+        };
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(SpanExporter.class)
+    static class LocalSpanExportConfiguration {
+
+        @Bean
+        @ConditionalOnProperty(name = "msl.tracing.export.memory.enabled", havingValue = "true", matchIfMissing = true)
+        public RecentSpansExporter recentSpansExporter(
+                @Value("${msl.tracing.export.memory.max-spans:10000}") int maxSpans) {
+            return new RecentSpansExporter(maxSpans);
+        }
+
+        @Bean
+        @ConditionalOnBean(RecentSpansExporter.class)
+        @ConditionalOnAvailableEndpoint
+        public SpansEndpoint spansEndpoint(RecentSpansExporter recentSpansExporter) {
+            return new SpansEndpoint(recentSpansExporter);
+        }
+
+        // Ej.: msl.tracing.export.file=logs/spans-${spring.application.name}.jsonl
+        @Bean
+        @ConditionalOnProperty(name = "msl.tracing.export.file")
+        public JsonLinesSpanExporter jsonLinesSpanExporter(@Value("${msl.tracing.export.file}") String file)
+                throws IOException {
+            return new JsonLinesSpanExporter(Path.of(file));
+        }
+    }
+
+    // Solo tiene sentido con hilos virtuales: informa de los synchronized que los fijan a su portador
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+    @ConditionalOnProperty(name = "msl.observability.pinning.enabled", havingValue = "true", matchIfMissing = true)
+    static class VirtualThreadPinningConfiguration {
+
+        @Bean
+        public VirtualThreadPinningMonitor virtualThreadPinningMonitor(
+                ObjectProvider<MeterRegistry> meterRegistry,
+                @Value("${msl.observability.pinning.threshold-ms:20}") long thresholdMs) {
+            return new VirtualThreadPinningMonitor(meterRegistry.getIfAvailable(() -> Metrics.globalRegistry),
+                    Duration.ofMillis(thresholdMs));
+        }
+
+        @Bean
+        @ConditionalOnAvailableEndpoint
+        public PinningEndpoint pinningEndpoint(VirtualThreadPinningMonitor virtualThreadPinningMonitor) {
+            return new PinningEndpoint(virtualThreadPinningMonitor);
+        }
+    }
+
+    // hibernate.* (consultas, entidades cargadas, caché de segundo nivel) necesita las estadísticas activas
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass({SessionFactory.class, HibernatePropertiesCustomizer.class})
+    static class HibernateStatisticsConfiguration {
+
+        @Bean
+        public HibernatePropertiesCustomizer hibernateStatisticsCustomizer(
+                @Value("${msl.observability.hibernate-statistics:true}") boolean enabled) {
+            return properties -> {
+                properties.putIfAbsent("hibernate.generate_statistics", enabled);
+                // Con las estadísticas activas Hibernate escribe "Session Metrics" en INFO al cerrar cada sesión;
+                // los mismos datos ya salen en hibernate.* y sql.request.*
+                properties.putIfAbsent("hibernate.session.events.log", false);
+            };
+        }
+    }
+
+    // Estadísticas SQL por petición en lugar de spring.jpa.show-sql
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass({SessionFactory.class, HibernatePropertiesCustomizer.class})
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    @ConditionalOnProperty(name = "msl.observability.sql-stats.enabled", havingValue = "true", matchIfMissing = true)
+    static class SqlStatsConfiguration {
+
+        @Bean
+        public HibernatePropertiesCustomizer sqlStatsCustomizer() {
+            return properties -> {
+                properties.putIfAbsent(AvailableSettings.STATEMENT_INSPECTOR, new SqlStatsStatementInspector());
+                properties.putIfAbsent(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, SqlStatsSessionListener.class.getName());
+            };
+        }
+
+        // Primero en la cadena para incluir también el SQL de los filtros de seguridad
+        @Bean
+        public FilterRegistrationBean<SqlStatsFilter> sqlStatsFilter(
+                ObjectProvider<MeterRegistry> meterRegistry,
+                @Value("${msl.observability.sql-stats.n-plus-one-threshold:5}") int nPlusOneThreshold) {
+            FilterRegistrationBean<SqlStatsFilter> registration = new FilterRegistrationBean<>(
+                    new SqlStatsFilter(meterRegistry.getIfAvailable(() -> Metrics.globalRegistry), nPlusOneThreshold));
+            registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+            return registration;
+        }
+    }
+}
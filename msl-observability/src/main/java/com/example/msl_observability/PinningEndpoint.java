@@ -0,0 +1,22 @@
+package com.example.msl_observability;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.List;
+
+// /actuator/pinning: dónde se fijan los hilos virtuales a su portador, con más tiempo acumulado primero
+@Endpoint(id = "pinning")
+public class PinningEndpoint {
+
+    private final VirtualThreadPinningMonitor monitor;
+
+    public PinningEndpoint(VirtualThreadPinningMonitor monitor) {
+        this.monitor = monitor;
+    }
+
+    @ReadOperation
+    public List<VirtualThreadPinningMonitor.PinningSnapshot> sites() {
+        return monitor.snapshot();
+    }
+}
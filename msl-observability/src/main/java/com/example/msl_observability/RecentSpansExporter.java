@@ -0,0 +1,50 @@
+package com.example.msl_observability;
+
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Colector en proceso: guarda los últimos spans terminados para consultarlos en /actuator/spans
+public class RecentSpansExporter implements SpanExporter {
+
+    private final int maxSpans;
+    private final ConcurrentLinkedDeque<SpanData> spans = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger size = new AtomicInteger();
+
+    public RecentSpansExporter(int maxSpans) {
+        this.maxSpans = maxSpans;
+    }
+
+    @Override
+    public CompletableResultCode export(Collection<SpanData> batch) {
+        for (SpanData span : batch) {
+            spans.addLast(span);
+            // Descarta los más antiguos al pasar el límite
+            if (size.incrementAndGet() > maxSpans && spans.pollFirst() != null) {
+                size.decrementAndGet();
+            }
+        }
+        return CompletableResultCode.ofSuccess();
+    }
+
+    public List<SpanData> snapshot() {
+        return List.copyOf(spans);
+    }
+
+    @Override
+    public CompletableResultCode flush() {
+        return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        spans.clear();
+        size.set(0);
+        return CompletableResultCode.ofSuccess();
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.msl_observability;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.SpanId;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Vista plana de un span terminado; es lo que escribe el exportador a archivo y lo que devuelve /actuator/spans
+@Data
+@Builder
+public class SpanRecord {
+
+    private static final AttributeKey<String> SERVICE_NAME = AttributeKey.stringKey("service.name");
+
+    private String traceId;
+    private String spanId;
+    private String parentSpanId;
+    private String service;
+    private String name;
+    private String kind;
+    private String status;
+    private long startEpochMicros;
+    private long durationMicros;
+    private Map<String, String> attributes;
+
+    public static SpanRecord fromSpanData(SpanData span) {
+        Map<String, String> attributes = new LinkedHashMap<>();
+        span.getAttributes().forEach((key, value) -> attributes.put(key.getKey(), String.valueOf(value)));
+        return SpanRecord.builder()
+                .traceId(span.getTraceId())
+                .spanId(span.getSpanId())
+                .parentSpanId(SpanId.isValid(span.getParentSpanId()) ? span.getParentSpanId() : null)
+                .service(span.getResource().getAttribute(SERVICE_NAME))
+                .name(span.getName())
+                .kind(span.getKind().name())
+                .status(span.getStatus().getStatusCode().name())
+                .startEpochMicros(span.getStartEpochNanos() / 1_000)
+                .durationMicros((span.getEndEpochNanos() - span.getStartEpochNanos()) / 1_000)
+                .attributes(attributes)
+                .build();
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.msl_observability;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+// /actuator/spans: trazas recientes de este servicio (más lentas primero) y el desglose de una traza por span
+@Endpoint(id = "spans")
+public class SpansEndpoint {
+
+    private static final int MAX_TRACES = 100;
+
+    private final RecentSpansExporter exporter;
+
+    public SpansEndpoint(RecentSpansExporter exporter) {
+        this.exporter = exporter;
+    }
+
+    public record TraceSummary(String traceId, String rootName, int spanCount, long durationMicros, long startEpochMicros) {
+    }
+
+    // selfMicros: tiempo del span que no se explica por sus hijos directos (p. ej. espera de la base de datos vs. código propio)
+    public record SpanBreakdown(SpanRecord span, long offsetMicros, long selfMicros) {
+    }
+
+    @ReadOperation
+    public List<TraceSummary> traces() {
+        return groupByTrace().entrySet().stream()
+                .map(entry -> summarize(entry.getKey(), entry.getValue()))
+                .sorted(Comparator.comparingLong(TraceSummary::durationMicros).reversed())
+                .limit(MAX_TRACES)
+                .toList();
+    }
+
+    @ReadOperation
+    public List<SpanBreakdown> trace(@Selector String traceId) {
+        List<SpanRecord> spans = groupByTrace().getOrDefault(traceId, List.of());
+        long traceStart = spans.stream().mapToLong(SpanRecord::getStartEpochMicros).min().orElse(0);
+        Map<String, Long> childrenDuration = spans.stream()
+                .filter(span -> span.getParentSpanId() != null)
+                .collect(Collectors.groupingBy(SpanRecord::getParentSpanId,
+                        Collectors.summingLong(SpanRecord::getDurationMicros)));
+        return spans.stream()
+                .sorted(Comparator.comparingLong(SpanRecord::getStartEpochMicros))
+                .map(span -> new SpanBreakdown(span,
+                        span.getStartEpochMicros() - traceStart,
+                        Math.max(0, span.getDurationMicros() - childrenDuration.getOrDefault(span.getSpanId(), 0L))))
+                .toList();
+    }
+
+    private Map<String, List<SpanRecord>> groupByTrace() {
+        return exporter.snapshot().stream()
+                .map(SpanRecord::fromSpanData)
+                .collect(Collectors.groupingBy(SpanRecord::getTraceId));
+    }
+
+    private static TraceSummary summarize(String traceId, List<SpanRecord> spans) {
+        long start = spans.stream().mapToLong(SpanRecord::getStartEpochMicros).min().orElse(0);
+        long end = spans.stream().mapToLong(span -> span.getStartEpochMicros() + span.getDurationMicros()).max().orElse(start);
+        // La raíz local es el span cuyo padre no está en este servicio
+        String rootName = spans.stream()
+                .filter(span -> span.getParentSpanId() == null
+                        || spans.stream().noneMatch(other -> other.getSpanId().equals(span.getParentSpanId())))
+                .min(Comparator.comparingLong(SpanRecord::getStartEpochMicros))
+                .map(SpanRecord::getName)
+                .orElse(null);
+        return new TraceSummary(traceId, rootName, spans.size(), end - start, start);
+    }
+}
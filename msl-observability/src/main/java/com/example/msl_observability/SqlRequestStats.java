@@ -0,0 +1,66 @@
+package com.example.msl_observability;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Sentencias SQL de la petición HTTP en curso. Lo abre SqlStatsFilter y lo alimentan
+// SqlStatsStatementInspector (cada sentencia preparada) y SqlStatsSessionListener (tiempo JDBC).
+public final class SqlRequestStats {
+
+    private static final ThreadLocal<SqlRequestStats> CURRENT = new ThreadLocal<>();
+
+    private final Map<String, Integer> statementCounts = new HashMap<>();
+    private int statements;
+    private long jdbcNanos;
+    private long executionStartedAt;
+
+    static SqlRequestStats start() {
+        SqlRequestStats stats = new SqlRequestStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+
+    // null fuera de una petición HTTP (tareas programadas, arranque)
+    public static SqlRequestStats current() {
+        return CURRENT.get();
+    }
+
+    void statementPrepared(String sql) {
+        statements++;
+        statementCounts.merge(sql, 1, Integer::sum);
+    }
+
+    void executionStarted() {
+        executionStartedAt = System.nanoTime();
+    }
+
+    void executionFinished() {
+        if (executionStartedAt != 0) {
+            jdbcNanos += System.nanoTime() - executionStartedAt;
+            executionStartedAt = 0;
+        }
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public long getJdbcNanos() {
+        return jdbcNanos;
+    }
+
+    // SELECT idénticos ejecutados al menos "threshold" veces: el patrón típico de N+1
+    public List<Map.Entry<String, Integer>> repeatedStatements(int threshold) {
+        return statementCounts.entrySet().stream()
+                .filter(entry -> entry.getValue() >= threshold)
+                .filter(entry -> entry.getKey().regionMatches(true, 0, "select", 0, 6))
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .map(entry -> Map.entry(entry.getKey(), entry.getValue()))
+                .toList();
+    }
+}
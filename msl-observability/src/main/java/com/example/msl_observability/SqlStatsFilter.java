@@ -0,0 +1,84 @@
+package com.example.msl_observability;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// Estadísticas SQL por petición: sql.request.statements, sql.request.jdbc y sql.request.n_plus_one por uri.
+// Con la cabecera X-Debug-Sql se registra una línea de log con statements, jdbcMs y repeated; el cliente no
+// recibe nada (el filtro corre antes de la seguridad) y la respuesta no se retiene en memoria.
+@Slf4j
+public class SqlStatsFilter extends OncePerRequestFilter {
+
+    public static final String DEBUG_HEADER = "X-Debug-Sql";
+
+    private final MeterRegistry meterRegistry;
+    private final int nPlusOneThreshold;
+
+    public SqlStatsFilter(MeterRegistry meterRegistry, int nPlusOneThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.nPlusOneThreshold = nPlusOneThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SqlRequestStats stats = SqlRequestStats.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlRequestStats.clear();
+            List<Map.Entry<String, Integer>> repeated = stats.repeatedStatements(nPlusOneThreshold);
+            record(request, stats, repeated);
+            if (request.getHeader(DEBUG_HEADER) != null) {
+                log.info("SQL de {} {}: statements={}; jdbcMs={}; repeated={}", request.getMethod(),
+                        request.getRequestURI(), stats.getStatements(),
+                        String.format(Locale.ROOT, "%.1f", stats.getJdbcNanos() / 1_000_000.0), repeated.size());
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, SqlRequestStats stats, List<Map.Entry<String, Integer>> repeated) {
+        if (stats.getStatements() == 0) {
+            return;
+        }
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        String method = request.getMethod();
+
+        DistributionSummary.builder("sql.request.statements")
+                .description("Sentencias SQL por petición HTTP")
+                .tag("method", method)
+                .tag("uri", uri)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(stats.getStatements());
+        Timer.builder("sql.request.jdbc")
+                .description("Tiempo de ejecución JDBC acumulado por petición HTTP")
+                .tag("method", method)
+                .tag("uri", uri)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(stats.getJdbcNanos(), TimeUnit.NANOSECONDS);
+
+        if (!repeated.isEmpty()) {
+            meterRegistry.counter("sql.request.n_plus_one", "method", method, "uri", uri).increment();
+            Map.Entry<String, Integer> worst = repeated.get(0);
+            log.warn("Posible N+1 en {} {}: {} sentencias, la más repetida {} veces: {}",
+                    method, uri, stats.getStatements(), worst.getValue(), worst.getKey());
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.msl_observability;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+// Cuenta cada sentencia que Hibernate prepara; el SQL no se modifica
+public class SqlStatsStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        SqlRequestStats stats = SqlRequestStats.current();
+        if (stats != null) {
+            stats.statementPrepared(sql);
+        }
+        return sql;
+    }
+}
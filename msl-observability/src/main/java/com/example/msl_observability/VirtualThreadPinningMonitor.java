@@ -0,0 +1,118 @@
+package com.example.msl_observability;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+// Con spring.threads.virtual.enabled=true un hilo virtual que se bloquea dentro de un synchronized (o en código
+// nativo) no suelta su hilo portador. JFR emite jdk.VirtualThreadPinned en cada caso; aquí se agrupan por el
+// primer frame fuera del JDK (el driver o la clase propia que tiene el monitor) y se publican en
+// jvm.threads.virtual.pinned y /actuator/pinning.
+@Slf4j
+public class VirtualThreadPinningMonitor implements InitializingBean, DisposableBean {
+
+    private static final String EVENT = "jdk.VirtualThreadPinned";
+    private static final int STACK_DEPTH = 12;
+
+    private final MeterRegistry meterRegistry;
+    private final Duration threshold;
+    private final Map<String, PinningSite> sites = new ConcurrentHashMap<>();
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry, Duration threshold) {
+        this.meterRegistry = meterRegistry;
+        this.threshold = threshold;
+    }
+
+    public record PinningSnapshot(String site, long count, long totalMillis, long maxMillis, List<String> stack) {
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        stream = new RecordingStream();
+        stream.enable(EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(EVENT, this::record);
+        stream.startAsync();
+        log.info("Monitoreando hilos virtuales fijados a su portador por más de {} ms", threshold.toMillis());
+    }
+
+    @Override
+    public void destroy() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    public List<PinningSnapshot> snapshot() {
+        return sites.entrySet().stream()
+                .map(entry -> entry.getValue().snapshot(entry.getKey()))
+                .sorted(Comparator.comparingLong(PinningSnapshot::totalMillis).reversed())
+                .toList();
+    }
+
+    private void record(RecordedEvent event) {
+        List<String> stack = event.getStackTrace() == null ? List.of() : event.getStackTrace().getFrames().stream()
+                .limit(STACK_DEPTH)
+                .map(VirtualThreadPinningMonitor::describe)
+                .toList();
+        String site = event.getStackTrace() == null ? "unknown" : event.getStackTrace().getFrames().stream()
+                .filter(frame -> frame.isJavaFrame() && !isJdk(frame))
+                .findFirst()
+                .map(VirtualThreadPinningMonitor::describe)
+                .orElse("jdk");
+        long millis = event.getDuration().toMillis();
+
+        PinningSite pinningSite = sites.computeIfAbsent(site, key -> {
+            log.warn("Hilo virtual fijado {} ms en {}; pila: {}", millis, key, stack);
+            return new PinningSite(stack, Counter.builder("jvm.threads.virtual.pinned")
+                    .description("Bloqueos de hilos virtuales sin liberar el hilo portador")
+                    .tag("site", key)
+                    .register(meterRegistry));
+        });
+        pinningSite.add(millis);
+    }
+
+    private static boolean isJdk(RecordedFrame frame) {
+        String type = frame.getMethod().getType().getName();
+        return type.startsWith("java.") || type.startsWith("jdk.") || type.startsWith("sun.");
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+
+    private static final class PinningSite {
+        private final List<String> stack;
+        private final Counter counter;
+        private final LongAdder totalMillis = new LongAdder();
+        private final LongAccumulator maxMillis = new LongAccumulator(Math::max, 0);
+
+        PinningSite(List<String> stack, Counter counter) {
+            this.stack = stack;
+            this.counter = counter;
+        }
+
+        void add(long millis) {
+            counter.increment();
+            totalMillis.add(millis);
+            maxMillis.accumulate(millis);
+        }
+
+        PinningSnapshot snapshot(String site) {
+            return new PinningSnapshot(site, (long) counter.count(), totalMillis.sum(), maxMillis.get(), stack);
+        }
+    }
+}
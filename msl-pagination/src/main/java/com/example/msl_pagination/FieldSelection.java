@@ -0,0 +1,49 @@
+package com.example.msl_pagination;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// Parámetro fields=id,name,...: qué propiedades devolver. Sin él se devuelven todas.
+public final class FieldSelection {
+
+    private static final FieldSelection ALL = new FieldSelection(null);
+
+    private final Set<String> fields;
+
+    private FieldSelection(Set<String> fields) {
+        this.fields = fields;
+    }
+
+    public static FieldSelection parse(String fields, Set<String> allowed) {
+        if (fields == null || fields.isBlank()) {
+            return ALL;
+        }
+        Set<String> selected = Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(field -> !field.isEmpty())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        Set<String> unknown = selected.stream().filter(field -> !allowed.contains(field)).collect(Collectors.toSet());
+        if (!unknown.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Campos desconocidos: " + unknown);
+        }
+        return new FieldSelection(selected);
+    }
+
+    public boolean isAll() {
+        return fields == null;
+    }
+
+    public Set<String> getFields() {
+        return fields;
+    }
+
+    // Para decidir si hay que leer columnas anchas (TEXT) o basta con la proyección reducida
+    public boolean includesAny(String... names) {
+        return isAll() || Arrays.stream(names).anyMatch(fields::contains);
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.msl_pagination;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+
+// Misma salida que DateTimeFormatter.ISO_OFFSET_DATE_TIME (2025-06-01T08:30:15.123-06:00), escrita directo en
+// un char[]: el formateador genérico crea un DateTimePrintContext y un BigDecimal para la fracción de segundo
+// en cada fecha, y en los listados eso es la mayor parte de lo que se asigna al serializar.
+public final class IsoDateTimes {
+
+    // yyyy-MM-ddTHH:mm:ss.nnnnnnnnn+HH:MM:SS
+    private static final int MAX_LENGTH = 38;
+
+    private IsoDateTimes() {
+    }
+
+    public static String format(ZonedDateTime value) {
+        int year = value.getYear();
+        if (year < 0 || year > 9999) {
+            return DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(value);
+        }
+        char[] buf = new char[MAX_LENGTH];
+        int pos = 0;
+        pos = digits(buf, pos, year, 4);
+        buf[pos++] = '-';
+        pos = digits(buf, pos, value.getMonthValue(), 2);
+        buf[pos++] = '-';
+        pos = digits(buf, pos, value.getDayOfMonth(), 2);
+        buf[pos++] = 'T';
+        pos = digits(buf, pos, value.getHour(), 2);
+        buf[pos++] = ':';
+        pos = digits(buf, pos, value.getMinute(), 2);
+        buf[pos++] = ':';
+        pos = digits(buf, pos, value.getSecond(), 2);
+        pos = fraction(buf, pos, value.getNano());
+        pos = offset(buf, pos, value.getOffset());
+        return new String(buf, 0, pos);
+    }
+
+    // Como appendFraction(NANO_OF_SECOND, 0, 9, true): sin ceros a la derecha y nada si es cero
+    private static int fraction(char[] buf, int pos, int nano) {
+        if (nano == 0) {
+            return pos;
+        }
+        int width = 9;
+        while (nano % 10 == 0) {
+            nano /= 10;
+            width--;
+        }
+        buf[pos++] = '.';
+        return digits(buf, pos, nano, width);
+    }
+
+    // Como appendOffsetId(): "Z" para UTC, +HH:MM y :SS solo si hay segundos
+    private static int offset(char[] buf, int pos, ZoneOffset offset) {
+        int total = offset.getTotalSeconds();
+        if (total == 0) {
+            buf[pos++] = 'Z';
+            return pos;
+        }
+        buf[pos++] = total < 0 ? '-' : '+';
+        int abs = Math.abs(total);
+        pos = digits(buf, pos, abs / 3600, 2);
+        buf[pos++] = ':';
+        pos = digits(buf, pos, abs / 60 % 60, 2);
+        if (abs % 60 != 0) {
+            buf[pos++] = ':';
+            pos = digits(buf, pos, abs % 60, 2);
+        }
+        return pos;
+    }
+
+    private static int digits(char[] buf, int pos, int value, int width) {
+        for (int i = pos + width - 1; i >= pos; i--) {
+            buf[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+        return pos + width;
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.msl_pagination;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.datatype.jsr310.ser.ZonedDateTimeSerializer;
+
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+
+// El ZonedDateTimeSerializer de jsr310 con IsoDateTimes en lugar de su formateador por defecto
+// (ISO_OFFSET_DATE_TIME). Con @JsonFormat, WRITE_DATES_WITH_ZONE_ID o una zona de contexto
+// (spring.jackson.time-zone + WRITE_DATES_WITH_CONTEXT_TIME_ZONE) se comporta igual que el original.
+public class IsoZonedDateTimeSerializer extends ZonedDateTimeSerializer {
+
+    public IsoZonedDateTimeSerializer() {
+        super();
+    }
+
+    private IsoZonedDateTimeSerializer(IsoZonedDateTimeSerializer base, Boolean useTimestamp, Boolean useNanoseconds,
+                                       DateTimeFormatter formatter, JsonFormat.Shape shape, Boolean writeZoneId) {
+        super(base, useTimestamp, useNanoseconds, formatter, shape, writeZoneId);
+    }
+
+    // createContextual siempre pasa por aquí (aun sin @JsonFormat); sin estos overrides se volvería al original
+    @Override
+    protected IsoZonedDateTimeSerializer withFormat(Boolean useTimestamp, DateTimeFormatter formatter,
+                                                    JsonFormat.Shape shape) {
+        return new IsoZonedDateTimeSerializer(this, useTimestamp, _useNanoseconds, formatter, shape, _writeZoneId);
+    }
+
+    @Override
+    protected IsoZonedDateTimeSerializer withFeatures(Boolean writeZoneId, Boolean writeNanoseconds) {
+        return new IsoZonedDateTimeSerializer(this, _useTimestamp, writeNanoseconds, _formatter, _shape, writeZoneId);
+    }
+
+    @Override
+    protected String formatValue(ZonedDateTime value, SerializerProvider provider) {
+        boolean contextZone = provider.getConfig().hasExplicitTimeZone()
+                && provider.isEnabled(SerializationFeature.WRITE_DATES_WITH_CONTEXT_TIME_ZONE);
+        if (_formatter == null && !contextZone) {
+            return IsoDateTimes.format(value);
+        }
+        return super.formatValue(value, provider);
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.msl_pagination;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+// Listados por keyset: orden estable (marca de tiempo desc, id desc) y el cursor es la clave del último
+// elemento devuelto, así cada página es un "WHERE (ts, id) < (?, ?) ORDER BY ts DESC, id DESC LIMIT n"
+// sobre el índice (ts, id), sin OFFSET ni recorrer las filas anteriores.
+public final class KeysetPagination {
+
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    public static final int DEFAULT_SIZE = 50;
+    public static final int MAX_SIZE = 200;
+
+    private static final String ID = "id";
+
+    private KeysetPagination() {
+    }
+
+    public static Limit limit(Integer size) {
+        if (size == null) {
+            return Limit.of(DEFAULT_SIZE);
+        }
+        return Limit.of(Math.clamp(size, 1, MAX_SIZE));
+    }
+
+    public static Sort newestFirst(String timestampProperty) {
+        return Sort.by(Sort.Direction.DESC, timestampProperty, ID);
+    }
+
+    public static KeysetScrollPosition position(String cursor, String timestampProperty) {
+        if (cursor == null || cursor.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.lastIndexOf('|');
+            return ScrollPosition.forward(Map.of(
+                    timestampProperty, ZonedDateTime.parse(decoded.substring(0, separator)),
+                    ID, UUID.fromString(decoded.substring(separator + 1))));
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Cursor inválido");
+        }
+    }
+
+    // El cursor se arma con los getters del propio elemento, así sirve igual para entidades y proyecciones
+    public static <T> CursorPage<T> page(Window<T> window,
+                                         Function<? super T, ZonedDateTime> timestamp,
+                                         Function<? super T, UUID> id) {
+        if (!window.hasNext() || window.isEmpty()) {
+            return new CursorPage<>(window.getContent(), null);
+        }
+        T last = window.getContent().get(window.size() - 1);
+        String key = timestamp.apply(last) + "|" + id.apply(last);
+        return new CursorPage<>(window.getContent(),
+                Base64.getUrlEncoder().withoutPadding().encodeToString(key.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.msl_pagination;
+
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+import java.time.ZonedDateTime;
+
+@AutoConfiguration(after = JacksonAutoConfiguration.class)
+@Import(PageResponses.class)
+public class MslPaginationAutoConfiguration {
+
+    // Fechas de los listados sin pasar por DateTimeFormatter (ver ProjectResponseBenchmark); misma salida
+    @Bean
+    @ConditionalOnProperty(name = "msl.json.iso-dates.enabled", havingValue = "true", matchIfMissing = true)
+    public Jackson2ObjectMapperBuilderCustomizer isoZonedDateTimeCustomizer() {
+        return builder -> builder.serializerByType(ZonedDateTime.class, new IsoZonedDateTimeSerializer());
+    }
+}
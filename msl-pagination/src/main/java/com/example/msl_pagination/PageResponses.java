@@ -0,0 +1,63 @@
+package com.example.msl_pagination;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Respuesta de un listado paginado: el cuerpo sigue siendo un arreglo JSON (compatible con los clientes
+// actuales) y el cursor de la siguiente página va en X-Next-Cursor.
+@Component
+@RequiredArgsConstructor
+public class PageResponses {
+
+    private final ObjectMapper objectMapper;
+    // Getters por clase y nombre JSON, resueltos una vez con la introspección de Jackson
+    private final Map<Class<?>, Map<String, AnnotatedMember>> accessors = new ConcurrentHashMap<>();
+
+    public ResponseEntity<List<?>> ok(CursorPage<?> page, FieldSelection selection) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(KeysetPagination.NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        if (selection.isAll()) {
+            return response.body(page.getItems());
+        }
+        return response.body(page.getItems().stream().map(item -> project(item, selection)).toList());
+    }
+
+    // Solo lee los campos pedidos; los valores quedan sin convertir y los serializa después el ObjectMapper
+    // de la aplicación, con su formato de fechas. Antes se convertía el objeto entero a Map (serializar y
+    // volver a leer cada elemento).
+    private Map<String, Object> project(Object item, FieldSelection selection) {
+        Map<String, AnnotatedMember> properties = accessors.computeIfAbsent(item.getClass(), this::introspect);
+        Map<String, Object> projected = new LinkedHashMap<>();
+        for (String field : selection.getFields()) {
+            AnnotatedMember accessor = properties.get(field);
+            projected.put(field, accessor != null ? accessor.getValue(item) : null);
+        }
+        return projected;
+    }
+
+    private Map<String, AnnotatedMember> introspect(Class<?> type) {
+        BeanDescription description = objectMapper.getSerializationConfig().introspect(objectMapper.constructType(type));
+        Map<String, AnnotatedMember> properties = new HashMap<>();
+        for (BeanPropertyDefinition property : description.findProperties()) {
+            AnnotatedMember accessor = property.getAccessor();
+            if (accessor != null) {
+                accessor.fixAccess(true);
+                properties.put(property.getName(), accessor);
+            }
+        }
+        return properties;
+    }
+}
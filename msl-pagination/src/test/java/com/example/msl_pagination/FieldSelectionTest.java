@@ -0,0 +1,45 @@
+package com.example.msl_pagination;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FieldSelectionTest {
+
+    private static final Set<String> ALLOWED = Set.of("id", "name", "status", "description");
+
+    @Test
+    void sinParametroSeDevuelvenTodos() {
+        assertThat(FieldSelection.parse(null, ALLOWED).isAll()).isTrue();
+        assertThat(FieldSelection.parse("  ", ALLOWED).isAll()).isTrue();
+    }
+
+    @Test
+    void conservaElOrdenPedidoSinRepetidos() {
+        FieldSelection selection = FieldSelection.parse(" status, id,,name,id ", ALLOWED);
+
+        assertThat(selection.isAll()).isFalse();
+        assertThat(selection.getFields()).containsExactly("status", "id", "name");
+    }
+
+    @Test
+    void unCampoDesconocidoEsUn400() {
+        assertThatThrownBy(() -> FieldSelection.parse("id,password", ALLOWED))
+                .isInstanceOfSatisfying(ResponseStatusException.class, e -> {
+                    assertThat(e.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+                    assertThat(e.getReason()).contains("password").doesNotContain("id,");
+                });
+    }
+
+    @Test
+    void includesAnyMiraSoloLosCamposPedidos() {
+        assertThat(FieldSelection.parse(null, ALLOWED).includesAny("description")).isTrue();
+        assertThat(FieldSelection.parse("id,name", ALLOWED).includesAny("description")).isFalse();
+        assertThat(FieldSelection.parse("id,description", ALLOWED).includesAny("description")).isTrue();
+    }
+}
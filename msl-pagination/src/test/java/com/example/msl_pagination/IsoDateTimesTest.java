@@ -0,0 +1,126 @@
+package com.example.msl_pagination;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// IsoDateTimes y IsoZonedDateTimeSerializer tienen que escribir exactamente lo mismo que ISO_OFFSET_DATE_TIME
+class IsoDateTimesTest {
+
+    static Stream<ZonedDateTime> edgeCases() {
+        ZoneOffset utc = ZoneOffset.UTC;
+        return Stream.of(
+                // Fracción con ceros a la derecha, de milisegundos a nanosegundos
+                ZonedDateTime.of(2025, 6, 1, 8, 30, 15, 100_000_000, utc),
+                ZonedDateTime.of(2025, 6, 1, 8, 30, 15, 120_000_000, utc),
+                ZonedDateTime.of(2025, 6, 1, 8, 30, 15, 123_000_000, utc),
+                ZonedDateTime.of(2025, 6, 1, 8, 30, 15, 123_400_000, utc),
+                ZonedDateTime.of(2025, 6, 1, 8, 30, 15, 1_000, utc),
+                ZonedDateTime.of(2025, 6, 1, 8, 30, 15, 10, utc),
+                ZonedDateTime.of(2025, 6, 1, 8, 30, 15, 1, utc),
+                ZonedDateTime.of(2025, 6, 1, 8, 30, 15, 999_999_999, utc),
+                // Sin fracción
+                ZonedDateTime.of(2025, 6, 1, 0, 0, 0, 0, utc),
+                // Z y zonas con nombre
+                ZonedDateTime.of(2025, 12, 31, 23, 59, 59, 0, ZoneId.of("UTC")),
+                ZonedDateTime.of(2025, 3, 9, 2, 30, 0, 0, ZoneId.of("America/Monterrey")),
+                ZonedDateTime.of(2025, 3, 9, 12, 0, 0, 5_000_000, ZoneId.of("America/Chicago")),
+                // Offsets con segundos y negativos de menos de una hora
+                ZonedDateTime.of(2025, 6, 1, 8, 30, 15, 0, ZoneOffset.ofHoursMinutesSeconds(5, 30, 45)),
+                ZonedDateTime.of(2025, 6, 1, 8, 30, 15, 0, ZoneOffset.ofHoursMinutesSeconds(0, 0, -30)),
+                ZonedDateTime.of(2025, 6, 1, 8, 30, 15, 0, ZoneOffset.ofHoursMinutes(-9, -30)),
+                ZonedDateTime.of(2025, 6, 1, 8, 30, 15, 0, ZoneOffset.MAX),
+                ZonedDateTime.of(2025, 6, 1, 8, 30, 15, 0, ZoneOffset.MIN),
+                // Zona LMT histórica: offset con segundos
+                ZonedDateTime.of(1880, 1, 1, 12, 0, 0, 0, ZoneId.of("Europe/Amsterdam")),
+                // Límites del año de 4 dígitos y fuera de ellos
+                ZonedDateTime.of(0, 1, 1, 0, 0, 0, 0, utc),
+                ZonedDateTime.of(1, 1, 1, 0, 0, 0, 0, utc),
+                ZonedDateTime.of(9999, 12, 31, 23, 59, 59, 999_999_999, ZoneOffset.ofHours(-6)),
+                ZonedDateTime.of(10000, 1, 1, 0, 0, 0, 0, utc),
+                ZonedDateTime.of(-1, 1, 1, 0, 0, 0, 0, utc));
+    }
+
+    @ParameterizedTest
+    @MethodSource("edgeCases")
+    void formatMatchesIsoOffsetDateTime(ZonedDateTime value) {
+        assertThat(IsoDateTimes.format(value)).isEqualTo(DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(value));
+    }
+
+    @Test
+    void formatMatchesIsoOffsetDateTimeForRandomValues() {
+        Random random = new Random(20250601);
+        for (int i = 0; i < 200_000; i++) {
+            LocalDateTime local = LocalDateTime.of(random.nextInt(-2, 10_003), 1 + random.nextInt(12),
+                    1 + random.nextInt(28), random.nextInt(24), random.nextInt(60), random.nextInt(60),
+                    randomNano(random));
+            ZoneOffset offset = ZoneOffset.ofTotalSeconds(random.nextInt(-18 * 3600, 18 * 3600 + 1));
+            ZonedDateTime value = ZonedDateTime.of(local, offset);
+            assertThat(IsoDateTimes.format(value))
+                    .as("%s", value)
+                    .isEqualTo(DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(value));
+        }
+    }
+
+    // Mitad con la fracción recortada a ms, µs o cero para que haya ceros a la derecha
+    private static int randomNano(Random random) {
+        int nano = random.nextInt(1_000_000_000);
+        return switch (random.nextInt(6)) {
+            case 0 -> 0;
+            case 1 -> nano / 1_000_000 * 1_000_000;
+            case 2 -> nano / 1_000 * 1_000;
+            default -> nano;
+        };
+    }
+
+    @Test
+    void isoMapperUsesIsoSerializer() throws Exception {
+        assertThat(iso().getSerializerProviderInstance().findValueSerializer(ZonedDateTime.class))
+                .isInstanceOf(IsoZonedDateTimeSerializer.class);
+    }
+
+    @ParameterizedTest
+    @MethodSource("edgeCases")
+    void serializerMatchesJacksonDefault(ZonedDateTime value) throws Exception {
+        assertThat(iso().writeValueAsString(value)).isEqualTo(jackson().writeValueAsString(value));
+    }
+
+    @Test
+    void serializerKeepsJsonFormatAndZoneIdBehaviour() throws Exception {
+        Dated dated = new Dated(ZonedDateTime.of(2025, 6, 1, 8, 30, 15, 123_000_000, ZoneId.of("America/Chicago")));
+        assertThat(iso().writeValueAsString(dated)).isEqualTo(jackson().writeValueAsString(dated));
+
+        ZonedDateTime value = dated.at();
+        assertThat(iso().enable(SerializationFeature.WRITE_DATES_WITH_ZONE_ID).writeValueAsString(value))
+                .isEqualTo(jackson().enable(SerializationFeature.WRITE_DATES_WITH_ZONE_ID).writeValueAsString(value));
+    }
+
+    record Dated(@JsonFormat(pattern = "yyyy-MM-dd HH:mm") ZonedDateTime at) {
+    }
+
+    private static ObjectMapper jackson() {
+        return new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    private static ObjectMapper iso() {
+        return jackson().registerModule(new SimpleModule()
+                .addSerializer(ZonedDateTime.class, new IsoZonedDateTimeSerializer()));
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.msl_pagination;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KeysetPaginationTest {
+
+    record Item(UUID id, ZonedDateTime createdAt) {
+    }
+
+    @Test
+    void elCursorDeUnaPaginaVuelveALaClaveDelUltimoElemento() {
+        Item first = new Item(UUID.randomUUID(), ZonedDateTime.of(2025, 6, 1, 9, 0, 0, 0, ZoneOffset.UTC));
+        // Zona con nombre y nanosegundos: el cursor no debe perder ninguno de los dos
+        Item last = new Item(UUID.randomUUID(),
+                ZonedDateTime.of(2025, 3, 9, 2, 30, 15, 123_456_789, ZoneId.of("America/Chicago")));
+
+        CursorPage<Item> page = KeysetPagination.page(window(List.of(first, last), true), Item::createdAt, Item::id);
+        KeysetScrollPosition position = KeysetPagination.position(page.getNextCursor(), "createdAt");
+
+        assertThat(page.getItems()).containsExactly(first, last);
+        assertThat(position.getKeys()).containsEntry("createdAt", last.createdAt()).containsEntry("id", last.id());
+        assertThat(position.scrollsForward()).isTrue();
+    }
+
+    @Test
+    void laUltimaPaginaNoTraeCursor() {
+        Item item = new Item(UUID.randomUUID(), ZonedDateTime.now(ZoneOffset.UTC));
+
+        assertThat(KeysetPagination.page(window(List.of(item), false), Item::createdAt, Item::id).getNextCursor())
+                .isNull();
+        assertThat(KeysetPagination.page(window(List.of(), true), Item::createdAt, Item::id).getNextCursor())
+                .isNull();
+    }
+
+    @Test
+    void sinCursorEmpiezaDesdeElPrincipio() {
+        assertThat(KeysetPagination.position(null, "createdAt").getKeys()).isEmpty();
+        assertThat(KeysetPagination.position(" ", "createdAt").getKeys()).isEmpty();
+    }
+
+    @Test
+    void unCursorQueNoEsBase64EsUn400() {
+        assertBadRequest("no es base64!");
+    }
+
+    // Base64 válido con un contenido que no es "fecha|uuid"
+    @ParameterizedTest
+    @ValueSource(strings = {"sin-separador", "2025-06-01|no-es-uuid", "ayer|00000000-0000-0000-0000-000000000000"})
+    void unCursorConContenidoMalformadoEsUn400(String decoded) {
+        assertBadRequest(Base64.getUrlEncoder().withoutPadding().encodeToString(decoded.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void elTamanoSeAcotaEntreUnoYElMaximo() {
+        assertThat(KeysetPagination.limit(null).max()).isEqualTo(KeysetPagination.DEFAULT_SIZE);
+        assertThat(KeysetPagination.limit(0).max()).isEqualTo(1);
+        assertThat(KeysetPagination.limit(-10).max()).isEqualTo(1);
+        assertThat(KeysetPagination.limit(30).max()).isEqualTo(30);
+        assertThat(KeysetPagination.limit(KeysetPagination.MAX_SIZE + 1).max()).isEqualTo(KeysetPagination.MAX_SIZE);
+    }
+
+    private static void assertBadRequest(String cursor) {
+        assertThatThrownBy(() -> KeysetPagination.position(cursor, "createdAt"))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+    }
+
+    private static Window<Item> window(List<Item> items, boolean hasNext) {
+        return Window.from(items, ScrollPosition::offset, hasNext);
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.msl_pagination;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PageResponsesTest {
+
+    private static final Set<String> ALLOWED = Set.of("id", "name", "status", "display_name");
+
+    private final PageResponses pageResponses = new PageResponses(new ObjectMapper());
+
+    public static class Item {
+        private final UUID id;
+        private final String name;
+        private final String status;
+
+        Item(UUID id, String name, String status) {
+            this.id = id;
+            this.name = name;
+            this.status = status;
+        }
+
+        public UUID getId() {
+            return id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getStatus() {
+            return status;
+        }
+
+        // El nombre JSON manda, no el del getter
+        @JsonProperty("display_name")
+        public String getDisplayName() {
+            return name.toUpperCase();
+        }
+    }
+
+    @Test
+    void laProyeccionRespetaElOrdenDeLosCamposPedidos() {
+        Item item = new Item(UUID.randomUUID(), "Casa Pérez", "ACTIVE");
+
+        ResponseEntity<List<?>> response = pageResponses.ok(new CursorPage<>(List.of(item), null),
+                FieldSelection.parse("status,display_name,id", ALLOWED));
+
+        @SuppressWarnings("unchecked")
+        Map<String, Object> projected = (Map<String, Object>) response.getBody().get(0);
+        assertThat(projected.keySet()).containsExactly("status", "display_name", "id");
+        assertThat(projected.get("status")).isEqualTo("ACTIVE");
+        assertThat(projected.get("display_name")).isEqualTo("CASA PÉREZ");
+        assertThat(projected.get("id")).isEqualTo(item.getId());
+    }
+
+    @Test
+    void sinSeleccionDevuelveLosElementosTalCualYElCursorEnLaCabecera() {
+        Item item = new Item(UUID.randomUUID(), "Casa Pérez", "ACTIVE");
+
+        ResponseEntity<List<?>> response = pageResponses.ok(new CursorPage<>(List.of(item), "siguiente"),
+                FieldSelection.parse(null, ALLOWED));
+
+        assertThat(response.getBody()).singleElement().isSameAs(item);
+        assertThat(response.getHeaders().getFirst(KeysetPagination.NEXT_CURSOR_HEADER)).isEqualTo("siguiente");
+    }
+
+    @Test
+    void laUltimaPaginaNoTraeCabeceraDeCursor() {
+        ResponseEntity<List<?>> response = pageResponses.ok(new CursorPage<>(List.of(), null),
+                FieldSelection.parse("id", ALLOWED));
+
+        assertThat(response.getBody()).isEmpty();
+        assertThat(response.getHeaders().containsKey(KeysetPagination.NEXT_CURSOR_HEADER)).isFalse();
+    }
+}
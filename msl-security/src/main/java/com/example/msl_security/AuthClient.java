@@ -0,0 +1,205 @@
+package com.example.msl_security;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+// Cliente hacia auth-service. Usa el RestTemplate "authRestTemplate" (pool, keep-alive y timeouts).
+// Las llamadas pasan por el bulkhead y el circuit breaker "authService" (resilience4j.*.instances.authService).
+@Slf4j
+@Component
+public class AuthClient {
+
+    @Value("${auth.service.url}")
+    private String authServiceUrl;
+
+    // Cuánto puede servirse una validación desde caché antes de volver a preguntar (revocaciones recientes)
+    @Value("${auth.validation-cache.revocation-tolerance-ms:30000}")
+    private long revocationToleranceMs;
+
+    @Value("${auth.validation-cache.max-size:10000}")
+    private long validationCacheMaxSize;
+
+    // Modo de gracia: durante una caída de auth-service se aceptan tokens validados hace menos de
+    // este tiempo (y aún no expirados). 0 lo desactiva.
+    @Value("${auth.resilience.grace-period-ms:0}")
+    private long gracePeriodMs;
+
+    @Value("${auth.resilience.grace-max-size:10000}")
+    private long graceMaxSize;
+
+    private final RestTemplate restTemplate;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+
+    // SHA-256 del token -> respuesta de /api/auth/validate
+    private Cache<String, CachedValidation> validationCache;
+    // Últimas validaciones correctas, solo se leen cuando auth-service no está disponible
+    private Cache<String, CachedValidation> graceCache;
+
+    public AuthClient(@Qualifier(MslSecurityAutoConfiguration.AUTH_REST_TEMPLATE) RestTemplate restTemplate,
+                      ObjectProvider<MeterRegistry> meterRegistry,
+                      CircuitBreakerRegistry circuitBreakerRegistry,
+                      BulkheadRegistry bulkheadRegistry) {
+        this.restTemplate = restTemplate;
+        this.meterRegistry = meterRegistry;
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(MslSecurityAutoConfiguration.AUTH_SERVICE_INSTANCE);
+        this.bulkhead = bulkheadRegistry.bulkhead(MslSecurityAutoConfiguration.AUTH_SERVICE_INSTANCE);
+    }
+
+    private record CachedValidation(Map<String, Object> userInfo, long expiresAtMillis) {
+    }
+
+    @PostConstruct
+    void initValidationCache() {
+        validationCache = Caffeine.newBuilder()
+                .maximumSize(validationCacheMaxSize)
+                .expireAfter(expireAtValidationEnd())
+                .recordStats()
+                .build();
+        graceCache = Caffeine.newBuilder()
+                .maximumSize(gracePeriodMs > 0 ? graceMaxSize : 0)
+                .expireAfter(expireAtValidationEnd())
+                .build();
+        meterRegistry.ifAvailable(registry ->
+                CaffeineCacheMetrics.monitor(registry, validationCache, "auth.validation"));
+    }
+
+    private static Expiry<String, CachedValidation> expireAtValidationEnd() {
+        return new Expiry<>() {
+            @Override
+            public long expireAfterCreate(String key, CachedValidation value, long currentTime) {
+                long remainingMs = value.expiresAtMillis() - System.currentTimeMillis();
+                return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMs, 0));
+            }
+
+            @Override
+            public long expireAfterUpdate(String key, CachedValidation value, long currentTime, long currentDuration) {
+                return expireAfterCreate(key, value, currentTime);
+            }
+
+            @Override
+            public long expireAfterRead(String key, CachedValidation value, long currentTime, long currentDuration) {
+                return currentDuration;
+            }
+        };
+    }
+
+    public Map<String, Object> getUserInfo(String token) {
+        String key = RevokedTokenRegistry.digest(token);
+        CachedValidation cached = validationCache.getIfPresent(key);
+        if (cached != null) {
+            return cached.userInfo();
+        }
+
+        Map<String, Object> userInfo;
+        try {
+            userInfo = callAuthService(() -> fetchUserInfo(token));
+        } catch (AuthServiceUnavailableException e) {
+            CachedValidation stale = graceCache.getIfPresent(key);
+            if (stale == null) {
+                throw e;
+            }
+            log.debug("auth-service no disponible, token aceptado en modo de gracia: {}", e.getMessage());
+            meterRegistry.getIfAvailable(() -> Metrics.globalRegistry).counter("auth.client.grace").increment();
+            return stale.userInfo();
+        }
+        if (userInfo == null) {
+            return null;
+        }
+        userInfo = Collections.unmodifiableMap(userInfo);
+        // Vence con el token o tras la ventana de tolerancia, lo que ocurra primero
+        long now = System.currentTimeMillis();
+        long tokenExpiresAt = getTokenExpiration(token);
+        validationCache.put(key, new CachedValidation(userInfo, capAtTokenExpiry(now + revocationToleranceMs, tokenExpiresAt)));
+        if (gracePeriodMs > 0) {
+            graceCache.put(key, new CachedValidation(userInfo, capAtTokenExpiry(now + gracePeriodMs, tokenExpiresAt)));
+        }
+        return userInfo;
+    }
+
+    private static long capAtTokenExpiry(long expiresAt, long tokenExpiresAt) {
+        return tokenExpiresAt > 0 ? Math.min(expiresAt, tokenExpiresAt) : expiresAt;
+    }
+
+    // Bulkhead por fuera: si ya hay demasiadas llamadas en curso se rechaza sin contar como fallo del circuito.
+    // Los 4xx (token inválido) se ignoran en el circuito vía resilience4j.circuitbreaker.instances.authService.ignore-exceptions.
+    private <T> T callAuthService(Supplier<T> call) {
+        try {
+            return Bulkhead.decorateSupplier(bulkhead, CircuitBreaker.decorateSupplier(circuitBreaker, call)).get();
+        } catch (CallNotPermittedException | BulkheadFullException e) {
+            throw new AuthServiceUnavailableException(e.getMessage(), e);
+        } catch (ResourceAccessException e) {
+            throw new AuthServiceUnavailableException("auth-service no responde: " + e.getMessage(), e);
+        }
+    }
+
+    private Map<String, Object> fetchUserInfo(String token) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("Authorization", "Bearer " + token);
+        HttpEntity<Void> entity = new HttpEntity<>(headers);
+
+        ResponseEntity<Map<String, Object>> response = restTemplate.exchange(
+                authServiceUrl + "/api/auth/validate",
+                HttpMethod.GET,
+                entity,
+                new ParameterizedTypeReference<Map<String, Object>>() {
+                }
+        );
+        return response.getBody();
+    }
+
+    public List<Map<String, Object>> getRevokedTokens(long since) {
+        return callAuthService(() -> restTemplate.exchange(
+                authServiceUrl + "/api/auth/revoked?since=" + since,
+                HttpMethod.GET,
+                null,
+                new ParameterizedTypeReference<List<Map<String, Object>>>() {
+                }
+        ).getBody());
+    }
+
+    // Lee "exp" del payload sin verificar la firma: el token ya fue validado por auth-service
+    private long getTokenExpiration(String token) {
+        try {
+            String[] parts = token.split("\\.");
+            JsonNode payload = objectMapper.readTree(Base64.getUrlDecoder().decode(parts[1]));
+            return payload.path("exp").asLong(0) * 1000;
+        } catch (Exception e) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.msl_security;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+// RestTemplate hacia auth-service sobre un pool de conexiones de HttpClient 5: reutiliza conexiones
+// (keep-alive), limita conexiones por ruta y nunca espera indefinidamente (connect, lectura y pool).
+@Component
+public class AuthHttpClientFactory {
+
+    @Value("${auth.http.max-connections:50}")
+    private int maxConnections;
+
+    @Value("${auth.http.max-connections-per-route:20}")
+    private int maxConnectionsPerRoute;
+
+    @Value("${auth.http.connect-timeout-ms:1000}")
+    private long connectTimeoutMs;
+
+    @Value("${auth.http.read-timeout-ms:2000}")
+    private long readTimeoutMs;
+
+    // Espera máxima por una conexión libre del pool
+    @Value("${auth.http.pool-timeout-ms:500}")
+    private long poolTimeoutMs;
+
+    @Value("${auth.http.keep-alive-ms:30000}")
+    private long keepAliveMs;
+
+    @Value("${auth.http.idle-eviction-ms:60000}")
+    private long idleEvictionMs;
+
+    public RestTemplate create(RestTemplateBuilder builder, MeterRegistry meterRegistry) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnectionsPerRoute)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                        .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                        .build())
+                .build();
+
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(poolTimeoutMs))
+                        .setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        .build())
+                .setKeepAliveStrategy((response, context) -> TimeValue.ofMilliseconds(keepAliveMs))
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(idleEvictionMs))
+                // Sin reintentos propios (por defecto repite ante 503 esperando el Retry-After con el hilo y
+                // el permiso del bulkhead tomados); de los fallos se encarga el circuit breaker
+                .disableAutomaticRetries()
+                .build();
+
+        // httpcomponents.pool.* (conexiones libres, ocupadas y en espera)
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "auth-service").bindTo(meterRegistry);
+
+        // El builder de Spring Boot agrega la observación de cada llamada: span hijo y cabecera traceparent (W3C)
+        HttpComponentsClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory(httpClient);
+        return builder
+                .requestFactory(() -> requestFactory)
+                .additionalInterceptors(new AuthClientMetricsInterceptor(meterRegistry))
+                .build();
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.msl_security;
+
+// auth-service no respondió a tiempo, el circuito está abierto o el bulkhead está lleno
+public class AuthServiceUnavailableException extends RuntimeException {
+
+    public AuthServiceUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
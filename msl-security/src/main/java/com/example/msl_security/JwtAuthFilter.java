@@ -1,27 +1,33 @@
-package project_service.config;
+package com.example.msl_security;
 
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
+// Autentica cada petición con el Bearer token; en los detalles queda el userId (UUID) del usuario
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class JwtAuthFilter extends OncePerRequestFilter {
 
+    private static final int RETRY_AFTER_SECONDS = 5;
+
     private final AuthClient authClient;
+    private final LocalTokenVerifier localTokenVerifier;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -39,7 +45,9 @@ public class JwtAuthFilter extends OncePerRequestFilter {
         final String token = authHeader.substring(7);
 
         try {
-            Map<String, Object> userInfo = authClient.getUserInfo(token);
+            Map<String, Object> userInfo = localTokenVerifier.isEnabled()
+                    ? localTokenVerifier.verify(token)
+                    : authClient.getUserInfo(token);
 
             String username = (String) userInfo.get("username");
             // Extraemos el userId que ahora viene en la respuesta de validación
@@ -65,8 +73,15 @@ public class JwtAuthFilter extends OncePerRequestFilter {
 
             SecurityContextHolder.getContext().setAuthentication(authentication);
 
+        } catch (AuthServiceUnavailableException e) {
+            // No se sabe si el token es válido: 503 en lugar de 401 para que la app no intente renovarlo
+            log.warn("No se pudo validar el token, auth-service no disponible: {}", e.getMessage());
+            SecurityContextHolder.clearContext();
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(RETRY_AFTER_SECONDS));
+            response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value(), "auth-service no disponible");
+            return;
         } catch (Exception e) {
-            System.err.println("🔒 Error al validar token con auth-service: " + e.getMessage());
+            log.debug("Token rechazado: {}", e.getMessage());
             SecurityContextHolder.clearContext();
         }
 
@@ -0,0 +1,77 @@
+package com.example.msl_security;
+
+import com.nimbusds.jose.RemoteKeySourceException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.oauth2.core.DelegatingOAuth2TokenValidator;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimValidator;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+// Verifica los JWT dentro del servicio (firma, expiración y claims) con las llaves publicadas
+// por auth-service en /api/auth/jwks, en lugar de llamar a /api/auth/validate en cada petición.
+// El JWK Set se pide con "authRestTemplate" (pool y timeouts de auth.http.*); si no se puede obtener,
+// AuthServiceUnavailableException: JwtAuthFilter responde 503 y la app no intenta renovar un token válido.
+@Component
+public class LocalTokenVerifier {
+
+    private final boolean enabled;
+    private final JwtDecoder jwtDecoder;
+    private final RevokedTokenRegistry revokedTokenRegistry;
+
+    public LocalTokenVerifier(@Value("${auth.service.url}") String authServiceUrl,
+                              @Value("${auth.jwt.local-verification:true}") boolean enabled,
+                              RevokedTokenRegistry revokedTokenRegistry,
+                              @Qualifier(MslSecurityAutoConfiguration.AUTH_REST_TEMPLATE) RestTemplate restTemplate) {
+        this.enabled = enabled;
+        this.revokedTokenRegistry = revokedTokenRegistry;
+
+        // NimbusJwtDecoder guarda en caché el JWK Set y lo vuelve a pedir solo si aparece un "kid" desconocido
+        NimbusJwtDecoder decoder = NimbusJwtDecoder.withJwkSetUri(authServiceUrl + "/api/auth/jwks")
+                .restOperations(restTemplate)
+                .build();
+        decoder.setJwtValidator(new DelegatingOAuth2TokenValidator<>(
+                JwtValidators.createDefault(),
+                new JwtClaimValidator<Object>("roles", Objects::nonNull),
+                new JwtClaimValidator<Object>("userId", Objects::nonNull)
+        ));
+        this.jwtDecoder = decoder;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // Devuelve la misma forma que /api/auth/validate: username, roles y userId
+    public Map<String, Object> verify(String token) {
+        Jwt jwt;
+        try {
+            jwt = jwtDecoder.decode(token);
+        } catch (JwtException e) {
+            // Sin llaves no se sabe si el token es válido (kid nuevo tras rotarlas, auth-service lento o caído)
+            if (e.getCause() instanceof RemoteKeySourceException) {
+                throw new AuthServiceUnavailableException("No se pudo obtener el JWK Set: " + e.getMessage(), e);
+            }
+            throw e;
+        }
+        if (revokedTokenRegistry.isRevoked(token)) {
+            throw new BadJwtException("Token revocado");
+        }
+
+        Map<String, Object> userInfo = new HashMap<>();
+        userInfo.put("username", jwt.getSubject());
+        userInfo.put("roles", jwt.getClaimAsStringList("roles"));
+        userInfo.put("userId", jwt.getClaimAsString("userId"));
+        return userInfo;
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.msl_security;
+
+import io.github.resilience4j.springboot3.bulkhead.autoconfigure.BulkheadAutoConfiguration;
+import io.github.resilience4j.springboot3.circuitbreaker.autoconfigure.CircuitBreakerAutoConfiguration;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.web.client.RestTemplate;
+
+// Seguridad común de los microservicios. Basta con depender de msl-security y definir
+// auth.service.url; auth.security.protected-paths indica qué rutas exigen token y
+// auth.security.admin-paths cuáles exigen además el rol ADMINISTRADOR (por omisión los endpoints de diagnóstico).
+// auth.service-token es la credencial de las llamadas entre servicios (ver ServiceToken).
+// Los registros de circuit breaker y bulkhead los crea resilience4j-spring-boot3.
+@AutoConfiguration(before = SecurityAutoConfiguration.class,
+        after = {CircuitBreakerAutoConfiguration.class, BulkheadAutoConfiguration.class})
+@EnableMethodSecurity
+@Import({AuthHttpClientFactory.class, AuthClient.class, RevokedTokenRegistry.class, LocalTokenVerifier.class, JwtAuthFilter.class,
+        ServiceToken.class, ServiceTokenFilter.class})
+public class MslSecurityAutoConfiguration {
+
+    public static final String AUTH_REST_TEMPLATE = "authRestTemplate";
+    // Nombre del circuit breaker y del bulkhead de las llamadas a auth-service
+    public static final String AUTH_SERVICE_INSTANCE = "authService";
+
+    @Bean(name = AUTH_REST_TEMPLATE)
+    public RestTemplate authRestTemplate(AuthHttpClientFactory factory, RestTemplateBuilder restTemplateBuilder,
+                                         ObjectProvider<MeterRegistry> meterRegistry) {
+        return factory.create(restTemplateBuilder, meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+    }
+
+    // El filtro solo debe correr dentro de la cadena de Spring Security, no también como filtro del servlet
+    @Bean
+    public FilterRegistrationBean<JwtAuthFilter> jwtAuthFilterRegistration(JwtAuthFilter jwtAuthFilter) {
+        FilterRegistrationBean<JwtAuthFilter> registration = new FilterRegistrationBean<>(jwtAuthFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
+    @Bean
+    public FilterRegistrationBean<ServiceTokenFilter> serviceTokenFilterRegistration(ServiceTokenFilter serviceTokenFilter) {
+        FilterRegistrationBean<ServiceTokenFilter> registration = new FilterRegistrationBean<>(serviceTokenFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(SecurityFilterChain.class)
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, JwtAuthFilter jwtAuthFilter,
+                                                   ServiceTokenFilter serviceTokenFilter,
+                                                   @Value("${auth.security.protected-paths:/api/**}") String[] protectedPaths,
+                                                   @Value("${auth.security.admin-paths:/actuator/spans/**,/actuator/pinning/**}")
+                                                   String[] adminPaths)
+            throws Exception {
+        http
+                .csrf(csrf -> csrf.disable())
+                .authorizeHttpRequests(auth -> auth
+                        // Las trazas recientes incluyen URIs con query string (coordenadas, ids) y tiempos;
+                        // el reporte de pinning, marcos de pila del código del servicio
+                        .requestMatchers(adminPaths).hasRole("ADMINISTRADOR")
+                        .requestMatchers(protectedPaths).authenticated()
+                        .anyRequest().permitAll()
+                )
+                .sessionManagement(sess -> sess.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                // Sin token válido: 401 (no 403) para que la app sepa que debe renovar el access token
+                .exceptionHandling(ex -> ex.authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED)))
+                .addFilterBefore(serviceTokenFilter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class);
+
+        return http.build();
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.msl_security;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Copia local de los tokens revocados (logout) en auth-service. Se sincroniza de forma incremental
+// en segundo plano, así que comprobar una revocación es solo un hash y una búsqueda en memoria.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RevokedTokenRegistry {
+
+    // Margen para no perder revocaciones por diferencias de reloj entre servicios
+    private static final long SYNC_OVERLAP_MS = 60_000;
+
+    private final AuthClient authClient;
+
+    // Con access tokens de pocos minutos se puede confiar en el token hasta que expire y omitir la lista
+    @Value("${auth.revocation.enabled:true}")
+    private boolean enabled;
+
+    // SHA-256 del token -> expiración (epoch millis)
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+    private volatile long lastSync = 0;
+
+    public boolean isRevoked(String token) {
+        return enabled && !revoked.isEmpty() && revoked.containsKey(digest(token));
+    }
+
+    @Scheduled(fixedDelayString = "${auth.revocation.refresh-ms:15000}")
+    public void refresh() {
+        if (!enabled) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        try {
+            long since = lastSync == 0 ? 0 : lastSync - SYNC_OVERLAP_MS;
+            List<Map<String, Object>> entries = authClient.getRevokedTokens(since);
+            for (Map<String, Object> entry : entries) {
+                revoked.put((String) entry.get("digest"), ((Number) entry.get("expiresAt")).longValue());
+            }
+            lastSync = now;
+        } catch (Exception e) {
+            log.warn("No se pudo sincronizar la lista de tokens revocados: {}", e.getMessage());
+        }
+        revoked.values().removeIf(expiresAt -> expiresAt < now);
+    }
+
+    static String digest(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no disponible", e);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.msl_security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+// Credencial compartida para llamadas entre servicios que no actúan por un usuario (eventos de costos,
+// tareas programadas). Quien llama la envía en X-Service-Token; ServiceTokenFilter le da el rol SERVICIO.
+// Vacía (auth.service-token sin definir) no autentica nada.
+@Component
+public class ServiceToken {
+
+    public static final String HEADER = "X-Service-Token";
+
+    private final byte[] token;
+
+    public ServiceToken(@Value("${auth.service-token:}") String token) {
+        this.token = token.getBytes(StandardCharsets.UTF_8);
+    }
+
+    public boolean isConfigured() {
+        return token.length > 0;
+    }
+
+    // Comparación en tiempo constante
+    public boolean matches(String candidate) {
+        return isConfigured() && candidate != null
+                && MessageDigest.isEqual(token, candidate.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public void addTo(HttpHeaders headers) {
+        if (isConfigured()) {
+            headers.set(HEADER, new String(token, StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.msl_security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+
+// Autentica como "servicio" (rol SERVICIO) las peticiones con un X-Service-Token válido; sin userId en los detalles
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ServiceTokenFilter extends OncePerRequestFilter {
+
+    public static final String ROLE = "ROLE_SERVICIO";
+
+    private final ServiceToken serviceToken;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain)
+            throws ServletException, IOException {
+
+        String candidate = request.getHeader(ServiceToken.HEADER);
+        if (candidate != null) {
+            if (serviceToken.matches(candidate)) {
+                SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                        "servicio", null, List.of(new SimpleGrantedAuthority(ROLE))));
+            } else {
+                log.debug("X-Service-Token rechazado en {}", request.getRequestURI());
+            }
+        }
+
+        filterChain.doFilter(request, response);
+    }
+}
@@ -4,14 +4,19 @@ import 'dart:convert';
 import 'dart:io';
 import 'package:http/http.dart' as http;
 import 'package:shared_preferences/shared_preferences.dart';
+import '../constants/api_constants.dart';
 import '../error/failure.dart';
 
 const String _authTokenKey = 'AUTH_TOKEN';
+const String _refreshTokenKey = 'REFRESH_TOKEN';
 
 class ApiClient {
   final http.Client _client;
   final SharedPreferences _sharedPreferences;
 
+  // Renovación en curso: varias peticiones con 401 a la vez comparten una sola llamada a /refresh
+  Future<bool>? _refreshing;
+
   ApiClient({required SharedPreferences sharedPreferences, http.Client? client})
     : _sharedPreferences = sharedPreferences,
       _client = client ?? http.Client();
@@ -25,6 +30,53 @@ class ApiClient {
     };
   }
 
+  // Si el access token expiró (401), se renueva una vez con el refresh token y se reintenta
+  Future<http.Response> _sendWithRefresh(
+    Future<http.Response> Function() send,
+  ) async {
+    final response = await send();
+    if (response.statusCode != 401 || !await _refreshAccessToken()) {
+      return response;
+    }
+    print('[ApiClient] Access token renewed, retrying request');
+    return send();
+  }
+
+  Future<bool> _refreshAccessToken() {
+    return _refreshing ??= _doRefresh().whenComplete(() => _refreshing = null);
+  }
+
+  Future<bool> _doRefresh() async {
+    final refreshToken = _sharedPreferences.getString(_refreshTokenKey);
+    if (refreshToken == null) return false;
+
+    final uri = Uri.parse(
+      '${ApiConstants.authServiceBaseUrl}${ApiConstants.refreshEndpoint}',
+    );
+    try {
+      final response = await _client.post(
+        uri,
+        headers: {'Content-Type': 'application/json'},
+        body: jsonEncode({'refreshToken': refreshToken}),
+      );
+      if (response.statusCode != 200) {
+        print('[ApiClient] Refresh failed with status ${response.statusCode}');
+        await _sharedPreferences.remove(_refreshTokenKey);
+        return false;
+      }
+      final json = jsonDecode(response.body) as Map<String, dynamic>;
+      await _sharedPreferences.setString(_authTokenKey, json['token'] as String);
+      await _sharedPreferences.setString(
+        _refreshTokenKey,
+        json['refreshToken'] as String,
+      );
+      return true;
+    } catch (e) {
+      print('[ApiClient] Refresh Error: $e');
+      return false;
+    }
+  }
+
   // 🔧 NUEVO MÉTODO PARA UPLOAD DE ARCHIVOS
   Future<dynamic> uploadFile({
     required String baseUrl,
@@ -88,7 +140,9 @@ class ApiClient {
     print('[ApiClient] Making GET request to: $uri');
 
     try {
-      final response = await _client.get(uri, headers: _getHeaders());
+      final response = await _sendWithRefresh(
+        () => _client.get(uri, headers: _getHeaders()),
+      );
       return _handleResponse(response, uri.toString());
     } on SocketException {
       print('[ApiClient] Network Error: No connection for $uri');
@@ -107,10 +161,8 @@ class ApiClient {
     print('[ApiClient] POST Body: ${jsonEncode(body)}');
 
     try {
-      final response = await _client.post(
-        uri,
-        headers: _getHeaders(),
-        body: jsonEncode(body),
+      final response = await _sendWithRefresh(
+        () => _client.post(uri, headers: _getHeaders(), body: jsonEncode(body)),
       );
       return _handleResponse(response, uri.toString());
     } on SocketException {
@@ -175,10 +227,8 @@ class ApiClient {
     final url = Uri.parse('$baseUrl$endpoint');
     print('[ApiClient] Making PUT request to: $url');
 
-    final response = await http.put(
-      url,
-      body: jsonEncode(body),
-      headers: _getHeaders(),
+    final response = await _sendWithRefresh(
+      () => http.put(url, body: jsonEncode(body), headers: _getHeaders()),
     );
 
     return _handleResponse(response, url.toString());
@@ -188,7 +238,9 @@ class ApiClient {
     final url = Uri.parse('$baseUrl$endpoint');
     print('[ApiClient] Making DELETE request to: $url');
 
-    final response = await http.delete(url, headers: _getHeaders());
+    final response = await _sendWithRefresh(
+      () => http.delete(url, headers: _getHeaders()),
+    );
 
     if (response.statusCode == 204 || response.statusCode == 200) {
       print('[ApiClient] DELETE successful: ${response.statusCode}');
@@ -34,4 +34,5 @@ class ApiConstants {
   static const String loginEndpoint = '/login';
   static const String registerEndpoint = '/register';
   static const String validateTokenEndpoint = '/validate';
+  static const String refreshEndpoint = '/refresh';
 }
@@ -14,6 +14,7 @@ abstract class AuthRemoteDataSource {
 }
 
 const String _authTokenKey = 'AUTH_TOKEN';
+const String _refreshTokenKey = 'REFRESH_TOKEN';
 
 class AuthRemoteDataSourceImpl implements AuthRemoteDataSource {
   final ApiClient _apiClient;
@@ -39,6 +40,12 @@ class AuthRemoteDataSourceImpl implements AuthRemoteDataSource {
 
     // Guardamos el token de forma segura
     await _sharedPreferences.setString(_authTokenKey, jwtResponse.token);
+    if (jwtResponse.refreshToken != null) {
+      await _sharedPreferences.setString(
+        _refreshTokenKey,
+        jwtResponse.refreshToken!,
+      );
+    }
 
     return jwtResponse;
   }
@@ -59,5 +66,6 @@ class AuthRemoteDataSourceImpl implements AuthRemoteDataSource {
     // Aquí podrías llamar al endpoint de logout de tu API si lo tuvieras implementado.
     // Por ahora, simplemente borraremos el token local.
     await _sharedPreferences.remove(_authTokenKey);
+    await _sharedPreferences.remove(_refreshTokenKey);
   }
 }
@@ -6,6 +6,7 @@ class JwtResponseModel {
   final String userId;
   final String username;
   final List<String> roles;
+  final String? refreshToken;
 
   JwtResponseModel({
     required this.token,
@@ -13,6 +14,7 @@ class JwtResponseModel {
     required this.userId,
     required this.username,
     required this.roles,
+    this.refreshToken,
   });
 
   factory JwtResponseModel.fromJson(Map<String, dynamic> json) {
@@ -27,6 +29,7 @@ class JwtResponseModel {
       // 👈 SIN fallback ahora
       username: json['username'] as String,
       roles: List<String>.from(json['roles'] as List),
+      refreshToken: json['refreshToken'] as String?,
     );
   }
 }
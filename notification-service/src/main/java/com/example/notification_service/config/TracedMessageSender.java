@@ -0,0 +1,42 @@
+package com.example.notification_service.config;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.propagation.Propagator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// Envíos STOMP con su propio span (hijo de la petición en curso) y la cabecera traceparent (W3C)
+// en el frame MESSAGE, para que el suscriptor pueda continuar la traza.
+@Component
+@RequiredArgsConstructor
+public class TracedMessageSender {
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final Tracer tracer;
+    private final Propagator propagator;
+
+    public void convertAndSend(String destination, Object payload) {
+        Span span = tracer.spanBuilder()
+                .name("stomp send")
+                .kind(Span.Kind.PRODUCER)
+                .tag("messaging.system", "stomp")
+                .tag("messaging.destination.name", destination)
+                .start();
+        try (Tracer.SpanInScope ignored = tracer.withSpan(span)) {
+            // Las cabeceras que no son de Spring se envían como cabeceras nativas del frame
+            Map<String, Object> headers = new HashMap<>();
+            propagator.inject(span.context(), headers, Map::put);
+            messagingTemplate.convertAndSend(destination, payload, headers);
+        } catch (RuntimeException e) {
+            span.error(e);
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+}
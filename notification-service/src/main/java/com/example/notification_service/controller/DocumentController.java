@@ -1,7 +1,12 @@
 package com.example.notification_service.controller;
 
+import com.example.msl_pagination.FieldSelection;
+import com.example.msl_pagination.PageResponses;
 import com.example.notification_service.dto.DocumentResponse;
 import com.example.notification_service.service.DocumentService;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.springframework.core.io.FileSystemResource;
 import org.springframework.core.io.Resource;
@@ -23,6 +28,24 @@ import java.util.UUID;
 public class DocumentController {
 
     private final DocumentService documentService;
+    private final PageResponses pageResponses;
+    private final MeterRegistry meterRegistry;
+
+    private DistributionSummary downloadSize;
+
+    @PostConstruct
+    void initMeters() {
+        downloadSize = DistributionSummary.builder("documents.download.size")
+                .description("Tamaño de los documentos descargados")
+                .baseUnit("bytes")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    // documents.downloads{result=ok|not_found|error}
+    private void countDownload(String result) {
+        meterRegistry.counter("documents.downloads", "result", result).increment();
+    }
 
     @PreAuthorize("hasRole('ADMINISTRADOR')")
     @PostMapping("/upload")
@@ -36,8 +59,11 @@ public class DocumentController {
     }
 
     @GetMapping
-    public ResponseEntity<List<DocumentResponse>> getAllDocuments() {
-        return ResponseEntity.ok(documentService.getAllDocuments());
+    public ResponseEntity<List<?>> getAllDocuments(@RequestParam(required = false) String cursor,
+                                                   @RequestParam(required = false) Integer size,
+                                                   @RequestParam(required = false) String fields) {
+        FieldSelection selection = FieldSelection.parse(fields, DocumentResponse.FIELDS);
+        return pageResponses.ok(documentService.getAllDocuments(cursor, size, selection), selection);
     }
 
     @GetMapping("/{id}")
@@ -63,6 +89,7 @@ public class DocumentController {
             FileSystemResource resource = new FileSystemResource(doc.getFileUrl());
 
             if (!resource.exists()) {
+                countDownload("not_found");
                 return ResponseEntity.notFound().build();
             }
 
@@ -72,14 +99,19 @@ public class DocumentController {
                 contentType = "application/octet-stream";
             }
 
+            long size = resource.contentLength();
+            downloadSize.record(size);
+            countDownload("ok");
+
             return ResponseEntity.ok()
                     .header(HttpHeaders.CONTENT_DISPOSITION,
                             "attachment; filename=\"" + doc.getFilename() + "\"")
                     .contentType(MediaType.parseMediaType(contentType))
-                    .contentLength(resource.contentLength())
+                    .contentLength(size)
                     .body(resource);
 
         } catch (Exception e) {
+            countDownload("error");
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
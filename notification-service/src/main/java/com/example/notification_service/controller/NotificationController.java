@@ -1,5 +1,7 @@
 package com.example.notification_service.controller;
 
+import com.example.msl_pagination.FieldSelection;
+import com.example.msl_pagination.PageResponses;
 import com.example.notification_service.dto.NotificationRequest;
 import com.example.notification_service.dto.NotificationResponse;
 import com.example.notification_service.service.NotificationService;
@@ -16,6 +18,7 @@ import java.util.UUID;
 public class NotificationController {
 
     private final NotificationService notificationService;
+    private final PageResponses pageResponses;
 
     @PostMapping
     public ResponseEntity<NotificationResponse> createNotification(@RequestBody NotificationRequest request) {
@@ -23,8 +26,11 @@ public class NotificationController {
     }
 
     @GetMapping
-    public ResponseEntity<List<NotificationResponse>> getAllNotifications() {
-        return ResponseEntity.ok(notificationService.getAllNotifications());
+    public ResponseEntity<List<?>> getAllNotifications(@RequestParam(required = false) String cursor,
+                                                       @RequestParam(required = false) Integer size,
+                                                       @RequestParam(required = false) String fields) {
+        FieldSelection selection = FieldSelection.parse(fields, NotificationResponse.FIELDS);
+        return pageResponses.ok(notificationService.getAllNotifications(cursor, size, selection), selection);
     }
 
     @GetMapping("/latest")
@@ -7,7 +7,7 @@ import java.time.ZonedDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "documents")
+@Table(name = "documents", indexes = @Index(name = "idx_documents_uploaded_at_id", columnList = "uploaded_at, id"))
 @Getter
 @Setter
 @NoArgsConstructor
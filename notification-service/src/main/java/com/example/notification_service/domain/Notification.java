@@ -7,7 +7,7 @@ import java.time.ZonedDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "notifications")
+@Table(name = "notifications", indexes = @Index(name = "idx_notifications_created_at_id", columnList = "created_at, id"))
 @Getter
 @Setter
 @NoArgsConstructor
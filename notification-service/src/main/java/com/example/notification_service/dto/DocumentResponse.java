@@ -4,11 +4,15 @@ import lombok.Builder;
 import lombok.Data;
 
 import java.time.ZonedDateTime;
+import java.util.Set;
 import java.util.UUID;
 
 @Data
 @Builder
 public class DocumentResponse {
+    // Valores aceptados en fields=
+    public static final Set<String> FIELDS = Set.of("id", "filename", "fileUrl", "uploadedBy", "projectId", "uploadedAt");
+
     private UUID id;
     private String filename;
     private String fileUrl;
@@ -1,6 +1,10 @@
 package com.example.notification_service.repository;
 
 import com.example.notification_service.domain.Document;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.List;
@@ -15,4 +19,7 @@ public interface DocumentRepository extends JpaRepository<Document, UUID> {
     Optional<Document> findByFileUrl(String fileUrl);
 
     List<Document> findByFilenameContainingIgnoreCase(String filename);
-}
\ No newline at end of file
+
+    // Listado por keyset; type es Document o DocumentSummary
+    <T> Window<T> findAllBy(ScrollPosition position, Sort sort, Limit limit, Class<T> type);
+}
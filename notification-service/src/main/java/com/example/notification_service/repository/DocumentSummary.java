@@ -0,0 +1,17 @@
+package com.example.notification_service.repository;
+
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+// Proyección para listados: todas las columnas menos fileUrl (TEXT)
+public interface DocumentSummary {
+    UUID getId();
+
+    String getFilename();
+
+    UUID getUploadedBy();
+
+    UUID getProjectId();
+
+    ZonedDateTime getUploadedAt();
+}
@@ -1,6 +1,10 @@
 package com.example.notification_service.repository;
 
 import com.example.notification_service.domain.Notification;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.List;
@@ -12,4 +16,7 @@ public interface NotificationRepository extends JpaRepository<Notification, UUID
     List<Notification> findByTitleContainingIgnoreCase(String title);
 
     List<Notification> findTop10ByOrderByCreatedAtDesc();
-}
\ No newline at end of file
+
+    // Listado por keyset; type es Notification o NotificationSummary
+    <T> Window<T> findAllBy(ScrollPosition position, Sort sort, Limit limit, Class<T> type);
+}
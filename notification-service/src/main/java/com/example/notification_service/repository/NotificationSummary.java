@@ -0,0 +1,15 @@
+package com.example.notification_service.repository;
+
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+// Proyección para listados: todas las columnas menos message (TEXT)
+public interface NotificationSummary {
+    UUID getId();
+
+    String getTitle();
+
+    String getType();
+
+    ZonedDateTime getCreatedAt();
+}
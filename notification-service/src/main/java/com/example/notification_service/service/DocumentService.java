@@ -1,5 +1,7 @@
 package com.example.notification_service.service;
 
+import com.example.msl_pagination.CursorPage;
+import com.example.msl_pagination.FieldSelection;
 import com.example.notification_service.dto.DocumentResponse;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -9,7 +11,7 @@ import java.util.UUID;
 public interface DocumentService {
     DocumentResponse uploadDocument(String filename, MultipartFile file, UUID uploadedBy, UUID projectId);
 
-    List<DocumentResponse> getAllDocuments();
+    CursorPage<DocumentResponse> getAllDocuments(String cursor, Integer size, FieldSelection fields);
 
     List<DocumentResponse> getDocumentsByProject(UUID projectId);
 
@@ -1,9 +1,16 @@
 package com.example.notification_service.service;
 
+import com.example.msl_pagination.CursorPage;
+import com.example.msl_pagination.FieldSelection;
+import com.example.msl_pagination.KeysetPagination;
 import com.example.notification_service.domain.Document;
 import com.example.notification_service.dto.DocumentResponse;
 import com.example.notification_service.repository.DocumentRepository;
+import com.example.notification_service.repository.DocumentSummary;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -49,9 +56,17 @@ public class DocumentServiceImpl implements DocumentService {
     }
 
     @Override
-    public List<DocumentResponse> getAllDocuments() {
-        return documentRepository.findAll()
-                .stream().map(this::toResponse).collect(Collectors.toList());
+    public CursorPage<DocumentResponse> getAllDocuments(String cursor, Integer size, FieldSelection fields) {
+        ScrollPosition position = KeysetPagination.position(cursor, "uploadedAt");
+        Sort sort = KeysetPagination.newestFirst("uploadedAt");
+        Limit limit = KeysetPagination.limit(size);
+        if (fields.includesAny("fileUrl")) {
+            return KeysetPagination.page(documentRepository.findAllBy(position, sort, limit, Document.class),
+                    Document::getUploadedAt, Document::getId).map(this::toResponse);
+        }
+        // Sin fileUrl no se lee la columna TEXT
+        return KeysetPagination.page(documentRepository.findAllBy(position, sort, limit, DocumentSummary.class),
+                DocumentSummary::getUploadedAt, DocumentSummary::getId).map(this::toResponse);
     }
 
     @Override
@@ -72,6 +87,16 @@ public class DocumentServiceImpl implements DocumentService {
         documentRepository.deleteById(id);
     }
 
+    private DocumentResponse toResponse(DocumentSummary d) {
+        return DocumentResponse.builder()
+                .id(d.getId())
+                .filename(d.getFilename())
+                .uploadedBy(d.getUploadedBy())
+                .projectId(d.getProjectId())
+                .uploadedAt(d.getUploadedAt())
+                .build();
+    }
+
     private DocumentResponse toResponse(Document d) {
         return DocumentResponse.builder()
                 .id(d.getId())
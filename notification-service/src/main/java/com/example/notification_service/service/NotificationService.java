@@ -1,5 +1,7 @@
 package com.example.notification_service.service;
 
+import com.example.msl_pagination.CursorPage;
+import com.example.msl_pagination.FieldSelection;
 import com.example.notification_service.dto.NotificationRequest;
 import com.example.notification_service.dto.NotificationResponse;
 
@@ -9,7 +11,7 @@ import java.util.UUID;
 public interface NotificationService {
     NotificationResponse createNotification(NotificationRequest request);
 
-    List<NotificationResponse> getAllNotifications();
+    CursorPage<NotificationResponse> getAllNotifications(String cursor, Integer size, FieldSelection fields);
 
     List<NotificationResponse> getLatestNotifications(int limit);
 
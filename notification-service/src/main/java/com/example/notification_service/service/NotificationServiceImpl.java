@@ -1,11 +1,18 @@
 package com.example.notification_service.service;
 
+import com.example.msl_pagination.CursorPage;
+import com.example.msl_pagination.FieldSelection;
+import com.example.msl_pagination.KeysetPagination;
+import com.example.notification_service.config.TracedMessageSender;
 import com.example.notification_service.domain.Notification;
 import com.example.notification_service.dto.NotificationRequest;
 import com.example.notification_service.dto.NotificationResponse;
 import com.example.notification_service.repository.NotificationRepository;
+import com.example.notification_service.repository.NotificationSummary;
 import lombok.RequiredArgsConstructor;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
 import java.time.ZonedDateTime;
@@ -17,7 +24,7 @@ import java.util.stream.Collectors;
 @Service
 public class NotificationServiceImpl implements NotificationService {
     private final NotificationRepository notificationRepository;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final TracedMessageSender messageSender;
 
     @Override
     public NotificationResponse createNotification(NotificationRequest req) {
@@ -33,18 +40,18 @@ public class NotificationServiceImpl implements NotificationService {
 
         // Envía a todos si no hay destinatario específico
         if (req.getTargetWorkerId() != null) {
-            messagingTemplate.convertAndSend(
+            messageSender.convertAndSend(
                     "/topic/notifications.worker." + req.getTargetWorkerId(),
                     response
             );
         } else if (req.getTargetRole() != null) {
-            messagingTemplate.convertAndSend(
+            messageSender.convertAndSend(
                     "/topic/notifications.role." + req.getTargetRole().toLowerCase(),
                     response
             );
         } else {
             // Notificación global
-            messagingTemplate.convertAndSend("/topic/notifications", response);
+            messageSender.convertAndSend("/topic/notifications", response);
         }
 
         return response;
@@ -52,9 +59,17 @@ public class NotificationServiceImpl implements NotificationService {
 
 
     @Override
-    public List<NotificationResponse> getAllNotifications() {
-        return notificationRepository.findAll()
-                .stream().map(this::toResponse).collect(Collectors.toList());
+    public CursorPage<NotificationResponse> getAllNotifications(String cursor, Integer size, FieldSelection fields) {
+        ScrollPosition position = KeysetPagination.position(cursor, "createdAt");
+        Sort sort = KeysetPagination.newestFirst("createdAt");
+        Limit limit = KeysetPagination.limit(size);
+        if (fields.includesAny("message")) {
+            return KeysetPagination.page(notificationRepository.findAllBy(position, sort, limit, Notification.class),
+                    Notification::getCreatedAt, Notification::getId).map(this::toResponse);
+        }
+        // Sin message no se lee la columna TEXT
+        return KeysetPagination.page(notificationRepository.findAllBy(position, sort, limit, NotificationSummary.class),
+                NotificationSummary::getCreatedAt, NotificationSummary::getId).map(this::toResponse);
     }
 
     @Override
@@ -74,6 +89,15 @@ public class NotificationServiceImpl implements NotificationService {
         notificationRepository.deleteById(id);
     }
 
+    private NotificationResponse toResponse(NotificationSummary n) {
+        return NotificationResponse.builder()
+                .id(n.getId())
+                .title(n.getTitle())
+                .type(n.getType())
+                .createdAt(n.getCreatedAt())
+                .build();
+    }
+
     private NotificationResponse toResponse(Notification n) {
         return NotificationResponse.builder()
                 .id(n.getId())
@@ -1,55 +0,0 @@
-package project_service.config;
-
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
-import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestTemplate;
-
-import java.util.Map;
-
-@Component
-public class AuthClient {
-
-    @Value("${auth.service.url}")
-    private String authServiceUrl;
-
-    private final RestTemplate restTemplate = new RestTemplate();
-
-    public boolean validateToken(String token) {
-        try {
-            HttpHeaders headers = new HttpHeaders();
-            headers.set("Authorization", "Bearer " + token);
-            HttpEntity<Void> entity = new HttpEntity<>(headers);
-
-            ResponseEntity<Void> response = restTemplate.exchange(
-                    authServiceUrl + "/api/auth/validate",
-                    HttpMethod.GET,
-                    entity,
-                    Void.class
-            );
-            return response.getStatusCode().is2xxSuccessful();
-        } catch (Exception e) {
-            return false;
-        }
-    }
-
-    public Map<String, Object> getUserInfo(String token) {
-        HttpHeaders headers = new HttpHeaders();
-        headers.set("Authorization", "Bearer " + token);
-        HttpEntity<Void> entity = new HttpEntity<>(headers);
-
-        ResponseEntity<Map> response = restTemplate.exchange(
-                authServiceUrl + "/api/auth/validate",
-                HttpMethod.GET,
-                entity,
-                Map.class
-        );
-
-        return response.getBody();
-    }
-
-}
@@ -1,10 +1,15 @@
 package project_service.controller;
 
+import com.example.msl_pagination.FieldSelection;
+import com.example.msl_pagination.PageResponses;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import project_service.dto.BulkWorkerAssignmentRequest;
+import project_service.dto.BulkWorkerAssignmentResponse;
+import project_service.dto.NearbyProjectResponse;
 import project_service.dto.ProjectRequest;
 import project_service.dto.ProjectResponse;
 import project_service.dto.WorkerAssignmentRequest;
@@ -19,6 +24,7 @@ import java.util.UUID;
 public class ProjectController {
 
     private final ProjectService projectService;
+    private final PageResponses pageResponses;
 
     @PostMapping
     public ResponseEntity<ProjectResponse> createProject(@RequestBody ProjectRequest request) {
@@ -28,9 +34,22 @@ public class ProjectController {
 
     @GetMapping
     @PreAuthorize("hasRole('ADMINISTRADOR')")
-    public ResponseEntity<List<ProjectResponse>> getAllProjects() {
-        List<ProjectResponse> projects = projectService.getAllProjects();
-        return ResponseEntity.ok(projects);
+    public ResponseEntity<List<?>> getAllProjects(@RequestParam(required = false) String cursor,
+                                                  @RequestParam(required = false) Integer size,
+                                                  @RequestParam(required = false) String fields) {
+        FieldSelection selection = FieldSelection.parse(fields, ProjectResponse.FIELDS);
+        return pageResponses.ok(projectService.getAllProjects(cursor, size, selection), selection);
+    }
+
+    // Proyectos activos más cercanos al punto (la ubicación del trabajador en la obra), desde el índice en memoria
+    @GetMapping("/nearby")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<List<NearbyProjectResponse>> getNearbyProjects(
+            @RequestParam double latitude,
+            @RequestParam double longitude,
+            @RequestParam(required = false) Double radiusKm,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(projectService.getNearbyProjects(latitude, longitude, radiusKm, limit));
     }
 
     @GetMapping("/my-assigned")
@@ -52,6 +71,28 @@ public class ProjectController {
         return ResponseEntity.ok().build();
     }
 
+    // Asigna o quita muchos trabajadores de un proyecto en un solo batch; repetir la petición no cambia nada
+    @PostMapping("/assign-workers")
+    @PreAuthorize("hasRole('ADMINISTRADOR')")
+    public ResponseEntity<BulkWorkerAssignmentResponse> assignWorkersToProject(
+            @RequestBody BulkWorkerAssignmentRequest request) {
+        return ResponseEntity.ok(projectService.assignWorkersToProject(request));
+    }
+
+    @PostMapping("/unassign-workers")
+    @PreAuthorize("hasRole('ADMINISTRADOR')")
+    public ResponseEntity<BulkWorkerAssignmentResponse> removeWorkersFromProject(
+            @RequestBody BulkWorkerAssignmentRequest request) {
+        return ResponseEntity.ok(projectService.removeWorkersFromProject(request));
+    }
+
+    @PutMapping("/{projectId}")
+    @PreAuthorize("hasRole('ADMINISTRADOR')")
+    public ResponseEntity<ProjectResponse> updateProject(@PathVariable UUID projectId,
+                                                         @RequestBody ProjectRequest request) {
+        return ResponseEntity.ok(projectService.updateProject(projectId, request));
+    }
+
     @GetMapping("/{projectId}")
     // Aseguramos que solo usuarios autenticados puedan ver los detalles.
     // Podrías hacerlo más específico si fuera necesario, ej. "hasAnyRole('ADMINISTRADOR', 'TRABAJADOR')"
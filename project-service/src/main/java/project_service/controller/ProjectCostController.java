@@ -0,0 +1,43 @@
+package project_service.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import project_service.dto.ProjectCostEventRequest;
+import project_service.dto.ProjectCostResponse;
+import project_service.service.ProjectCostService;
+
+import java.util.List;
+import java.util.UUID;
+
+// Costos por proyecto (horas de asistencia y gasto en materiales), ya acumulados al llegar cada evento
+@RestController
+@RequestMapping("/api/projects")
+@RequiredArgsConstructor
+public class ProjectCostController {
+
+    private final ProjectCostService projectCostService;
+
+    // Lo envían worker-service al registrar una salida e inventory-service al mover material de un proyecto,
+    // con las cantidades de su propio registro. Solo con la credencial de servicio: un usuario no puede
+    // sumar montos ni reescribir o mover una entrada reenviando su sourceId
+    @PostMapping("/cost-events")
+    @PreAuthorize("hasRole('SERVICIO')")
+    public ResponseEntity<ProjectCostResponse> recordCostEvent(@RequestBody ProjectCostEventRequest request) {
+        return ResponseEntity.ok(projectCostService.recordCostEvent(request));
+    }
+
+    // Reporte COSTOS de analytics-service; su job nocturno llama con la credencial de servicio
+    @GetMapping("/costs")
+    @PreAuthorize("hasAnyRole('ADMINISTRADOR', 'SERVICIO')")
+    public ResponseEntity<List<ProjectCostResponse>> getProjectCosts() {
+        return ResponseEntity.ok(projectCostService.getProjectCosts());
+    }
+
+    @GetMapping("/{projectId}/costs")
+    @PreAuthorize("hasRole('ADMINISTRADOR')")
+    public ResponseEntity<ProjectCostResponse> getProjectCost(@PathVariable UUID projectId) {
+        return ResponseEntity.ok(projectCostService.getProjectCost(projectId));
+    }
+}
@@ -9,7 +9,7 @@ import java.time.ZonedDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "projects")
+@Table(name = "projects", indexes = @Index(name = "idx_projects_created_at_id", columnList = "created_at, id"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -36,9 +36,17 @@ public class Project {
     @Column(name = "end_date", nullable = false)
     private LocalDate endDate;
 
+    // Lo calcula ProjectProgressUpdater a partir de lo planeado y de project_costs
     @Column(name = "percent_completed", precision = 5, scale = 2)
     private BigDecimal percentCompleted;
 
+    // Lo planeado contra lo que se mide el avance; null si no se planeó
+    @Column(name = "planned_hours", precision = 12, scale = 2)
+    private BigDecimal plannedHours;
+
+    @Column(name = "planned_material_cost", precision = 15, scale = 2)
+    private BigDecimal plannedMaterialCost;
+
     @Column(nullable = false, precision = 9, scale = 6)
     private BigDecimal latitude;
 
@@ -0,0 +1,32 @@
+package project_service.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+@Entity
+// Acumulado de costos por proyecto; lo mantiene ProjectCostRollupRepository sumando la diferencia de cada evento
+@Table(name = "project_costs")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProjectCost {
+
+    @Id
+    @Column(name = "project_id")
+    private UUID projectId;
+
+    @Column(name = "labor_hours", nullable = false, precision = 14, scale = 4)
+    private BigDecimal laborHours;
+
+    @Column(name = "material_cost", nullable = false, precision = 17, scale = 2)
+    private BigDecimal materialCost;
+
+    @Column(name = "updated_at", nullable = false)
+    private ZonedDateTime updatedAt;
+}
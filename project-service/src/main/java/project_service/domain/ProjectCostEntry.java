@@ -0,0 +1,39 @@
+package project_service.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+@Entity
+// Último valor recibido por cada registro de origen (asistencia o movimiento de inventario): un reenvío no suma
+// dos veces y una corrección solo suma la diferencia
+@Table(name = "project_cost_entries")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProjectCostEntry {
+
+    @Id
+    @Column(name = "source_id")
+    private UUID sourceId;
+
+    @Column(name = "project_id", nullable = false)
+    private UUID projectId;
+
+    @Column(nullable = false, length = 20)
+    private String kind; // 'LABOR' o 'MATERIAL'
+
+    @Column(name = "labor_hours", nullable = false, precision = 12, scale = 4)
+    private BigDecimal laborHours;
+
+    @Column(name = "material_cost", nullable = false, precision = 15, scale = 2)
+    private BigDecimal materialCost;
+
+    @Column(name = "recorded_at", nullable = false)
+    private ZonedDateTime recordedAt;
+}
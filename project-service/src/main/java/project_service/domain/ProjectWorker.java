@@ -7,7 +7,11 @@ import java.time.ZonedDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "project_workers")
+// Una asignación por (worker_id, project_id); el mismo índice resuelve /api/projects/my-assigned.
+// En tablas con duplicados previos lo crea ProjectWorkerUniqueKeyInitializer
+@Table(name = "project_workers",
+        uniqueConstraints = @UniqueConstraint(name = "uk_project_workers_worker_project",
+                columnNames = {"worker_id", "project_id"}))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -0,0 +1,12 @@
+package project_service.dto;
+
+import lombok.Data;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+public class BulkWorkerAssignmentRequest {
+    private UUID projectId;
+    private List<UUID> workerIds;
+}
@@ -0,0 +1,16 @@
+package project_service.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.UUID;
+
+@Data
+@Builder
+public class BulkWorkerAssignmentResponse {
+    private UUID projectId;
+    // Trabajadores distintos en la petición
+    private int requested;
+    // Filas realmente insertadas o borradas; el resto ya estaba asignado (o no lo estaba)
+    private int changed;
+}
@@ -0,0 +1,12 @@
+package project_service.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class NearbyProjectResponse {
+    private ProjectResponse project;
+    // Distancia en línea recta (haversine) desde el punto de búsqueda
+    private double distanceKm;
+}
@@ -0,0 +1,15 @@
+package project_service.dto;
+
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+@Data
+public class ProjectCostEventRequest {
+    private UUID sourceId; // id de la asistencia o del movimiento de inventario; reenviarlo es seguro
+    private UUID projectId;
+    private String kind; // "LABOR" o "MATERIAL"
+    private BigDecimal laborHours; // LABOR: horas de la asistencia
+    private BigDecimal materialCost; // MATERIAL: cantidad x precio unitario; negativo en devoluciones
+}
@@ -0,0 +1,18 @@
+package project_service.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+@Data
+@Builder
+public class ProjectCostResponse {
+    private UUID projectId;
+    private String projectName;
+    private BigDecimal laborHours;
+    private BigDecimal materialCost;
+    private ZonedDateTime updatedAt; // null si el proyecto todavía no tiene costos
+}
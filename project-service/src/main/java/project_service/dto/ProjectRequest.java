@@ -14,4 +14,6 @@ public class ProjectRequest {
     private LocalDate endDate;
     private BigDecimal latitude;
     private BigDecimal longitude;
+    private BigDecimal plannedHours; // horas de trabajo previstas
+    private BigDecimal plannedMaterialCost; // gasto en materiales previsto
 }
\ No newline at end of file
@@ -6,11 +6,17 @@ import lombok.Data;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.ZonedDateTime;
+import java.util.Set;
 import java.util.UUID;
 
 @Data
 @Builder
 public class ProjectResponse {
+    // Valores aceptados en fields=
+    public static final Set<String> FIELDS = Set.of("id", "name", "description", "budget", "startDate", "endDate",
+            "percentCompleted", "plannedHours", "plannedMaterialCost", "latitude", "longitude", "createdAt",
+            "updatedAt");
+
     private UUID id;
     private String name;
     private String description;
@@ -18,6 +24,8 @@ public class ProjectResponse {
     private LocalDate startDate;
     private LocalDate endDate;
     private BigDecimal percentCompleted;
+    private BigDecimal plannedHours;
+    private BigDecimal plannedMaterialCost;
     private BigDecimal latitude;
     private BigDecimal longitude;
     private ZonedDateTime createdAt;
@@ -0,0 +1,17 @@
+package project_service.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import project_service.domain.ProjectCost;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface ProjectCostRepository extends JpaRepository<ProjectCost, UUID>, ProjectCostRollupRepository {
+
+    // Todos los proyectos, con ceros para los que aún no tienen costos; una fila ya sumada por proyecto
+    @Query("select p.id as projectId, p.name as projectName, coalesce(c.laborHours, 0) as laborHours, "
+            + "coalesce(c.materialCost, 0) as materialCost, c.updatedAt as updatedAt "
+            + "from Project p left join ProjectCost c on c.projectId = p.id order by p.createdAt desc")
+    List<ProjectCostSummary> findAllSummaries();
+}
@@ -0,0 +1,15 @@
+package project_service.repository;
+
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.UUID;
+
+// Acumulados por proyecto mantenidos con JDBC: cada evento suma solo su diferencia, sin recalcular el historial
+public interface ProjectCostRollupRepository {
+
+    // Guarda el valor del registro sourceId y suma a project_costs lo que cambió respecto al anterior.
+    // Devuelve los proyectos cuyo acumulado cambió: ninguno si llegó igual que la vez anterior (un reenvío)
+    List<UUID> record(UUID sourceId, UUID projectId, String kind, BigDecimal laborHours, BigDecimal materialCost,
+                   ZonedDateTime recordedAt);
+}
@@ -0,0 +1,67 @@
+package project_service.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+class ProjectCostRollupRepositoryImpl implements ProjectCostRollupRepository {
+
+    // El primer envío de un registro gana la clave; uno concurrente del mismo registro espera y cae en la corrección
+    private static final String INSERT_ENTRY = "INSERT INTO project_cost_entries "
+            + "(source_id, project_id, kind, labor_hours, material_cost, recorded_at) VALUES (?, ?, ?, ?, ?, ?) "
+            + "ON CONFLICT (source_id) DO NOTHING";
+    private static final String SELECT_ENTRY = "SELECT project_id, labor_hours, material_cost "
+            + "FROM project_cost_entries WHERE source_id = ? FOR UPDATE";
+    private static final String UPDATE_ENTRY = "UPDATE project_cost_entries "
+            + "SET project_id = ?, kind = ?, labor_hours = ?, material_cost = ?, recorded_at = ? WHERE source_id = ?";
+    private static final String ADD_TO_ROLLUP = "INSERT INTO project_costs "
+            + "(project_id, labor_hours, material_cost, updated_at) VALUES (?, ?, ?, ?) "
+            + "ON CONFLICT (project_id) DO UPDATE SET labor_hours = project_costs.labor_hours + EXCLUDED.labor_hours, "
+            + "material_cost = project_costs.material_cost + EXCLUDED.material_cost, updated_at = EXCLUDED.updated_at";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private record Entry(UUID projectId, BigDecimal laborHours, BigDecimal materialCost) {
+    }
+
+    @Override
+    @Transactional
+    public List<UUID> record(UUID sourceId, UUID projectId, String kind, BigDecimal laborHours, BigDecimal materialCost,
+                          ZonedDateTime recordedAt) {
+        Timestamp timestamp = Timestamp.from(recordedAt.toInstant());
+        if (jdbcTemplate.update(INSERT_ENTRY, sourceId, projectId, kind, laborHours, materialCost, timestamp) == 1) {
+            addToRollup(projectId, laborHours, materialCost, timestamp);
+            return List.of(projectId);
+        }
+        Entry previous = jdbcTemplate.queryForObject(SELECT_ENTRY, (rs, rowNum) -> new Entry(
+                rs.getObject("project_id", UUID.class), rs.getBigDecimal("labor_hours"),
+                rs.getBigDecimal("material_cost")), sourceId);
+        if (previous.projectId().equals(projectId)
+                && previous.laborHours().compareTo(laborHours) == 0
+                && previous.materialCost().compareTo(materialCost) == 0) {
+            return List.of();
+        }
+        jdbcTemplate.update(UPDATE_ENTRY, projectId, kind, laborHours, materialCost, timestamp, sourceId);
+        if (previous.projectId().equals(projectId)) {
+            addToRollup(projectId, laborHours.subtract(previous.laborHours()),
+                    materialCost.subtract(previous.materialCost()), timestamp);
+            return List.of(projectId);
+        }
+        // El registro pasó a otro proyecto: sale completo del anterior y entra completo al nuevo
+        addToRollup(previous.projectId(), previous.laborHours().negate(), previous.materialCost().negate(),
+                timestamp);
+        addToRollup(projectId, laborHours, materialCost, timestamp);
+        return List.of(previous.projectId(), projectId);
+    }
+
+    private void addToRollup(UUID projectId, BigDecimal laborHours, BigDecimal materialCost, Timestamp updatedAt) {
+        jdbcTemplate.update(ADD_TO_ROLLUP, projectId, laborHours, materialCost, updatedAt);
+    }
+}
@@ -0,0 +1,18 @@
+package project_service.repository;
+
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+// Proyección de /api/projects/costs: el acumulado junto al nombre del proyecto
+public interface ProjectCostSummary {
+    UUID getProjectId();
+
+    String getProjectName();
+
+    BigDecimal getLaborHours();
+
+    BigDecimal getMaterialCost();
+
+    ZonedDateTime getUpdatedAt();
+}
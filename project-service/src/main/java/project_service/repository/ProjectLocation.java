@@ -0,0 +1,16 @@
+package project_service.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+// Proyección para cargar el índice de ubicaciones
+public interface ProjectLocation {
+    UUID getId();
+
+    BigDecimal getLatitude();
+
+    BigDecimal getLongitude();
+
+    LocalDate getEndDate();
+}
@@ -0,0 +1,9 @@
+package project_service.repository;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+// Lo planeado de un proyecto junto a su acumulado de project_costs (ceros si aún no tiene) y el avance guardado
+public record ProjectProgress(UUID projectId, BigDecimal plannedHours, BigDecimal plannedMaterialCost,
+                              BigDecimal laborHours, BigDecimal materialCost, BigDecimal percentCompleted) {
+}
@@ -0,0 +1,18 @@
+package project_service.repository;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+// Lectura y escritura del avance con JDBC: una consulta para todos los proyectos pendientes y un batch de updates
+public interface ProjectProgressRepository {
+
+    List<ProjectProgress> findProgress(Collection<UUID> projectIds);
+
+    List<ProjectProgress> findAllProgress();
+
+    // Solo toca percent_completed; updated_at queda para los cambios hechos por usuarios
+    void updatePercentCompleted(Map<UUID, BigDecimal> percentByProject);
+}
@@ -0,0 +1,55 @@
+package project_service.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+class ProjectProgressRepositoryImpl implements ProjectProgressRepository {
+
+    private static final String SELECT_ALL = "SELECT p.id, p.planned_hours, p.planned_material_cost, "
+            + "p.percent_completed, coalesce(c.labor_hours, 0) AS labor_hours, "
+            + "coalesce(c.material_cost, 0) AS material_cost "
+            + "FROM projects p LEFT JOIN project_costs c ON c.project_id = p.id";
+    private static final String SELECT_BY_IDS = SELECT_ALL + " WHERE p.id = ANY(?)";
+    private static final String UPDATE = "UPDATE projects SET percent_completed = ? WHERE id = ?";
+
+    private static final RowMapper<ProjectProgress> ROW_MAPPER = (rs, rowNum) -> new ProjectProgress(
+            rs.getObject("id", UUID.class),
+            rs.getBigDecimal("planned_hours"),
+            rs.getBigDecimal("planned_material_cost"),
+            rs.getBigDecimal("labor_hours"),
+            rs.getBigDecimal("material_cost"),
+            rs.getBigDecimal("percent_completed"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<ProjectProgress> findProgress(Collection<UUID> projectIds) {
+        return jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(SELECT_BY_IDS);
+            statement.setArray(1, connection.createArrayOf("uuid", projectIds.toArray()));
+            return statement;
+        }, ROW_MAPPER);
+    }
+
+    @Override
+    public List<ProjectProgress> findAllProgress() {
+        return jdbcTemplate.query(SELECT_ALL, ROW_MAPPER);
+    }
+
+    @Override
+    public void updatePercentCompleted(Map<UUID, BigDecimal> percentByProject) {
+        List<Object[]> rows = new ArrayList<>(percentByProject.size());
+        percentByProject.forEach((projectId, percent) -> rows.add(new Object[]{percent, projectId}));
+        jdbcTemplate.batchUpdate(UPDATE, rows);
+    }
+}
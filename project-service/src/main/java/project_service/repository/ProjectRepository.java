@@ -1,10 +1,27 @@
 package project_service.repository;
 
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import project_service.domain.Project;
 
+import java.util.List;
 import java.util.UUID;
 
-public interface ProjectRepository extends JpaRepository<Project, UUID> {
+public interface ProjectRepository extends JpaRepository<Project, UUID>, ProjectProgressRepository {
 
-}
\ No newline at end of file
+    // Listado por keyset; type es Project o ProjectSummary
+    <T> Window<T> findAllBy(ScrollPosition position, Sort sort, Limit limit, Class<T> type);
+
+    // Proyectos asignados a un trabajador en una sola consulta; el IN no duplica proyectos asignados dos veces
+    @Query("select p from Project p where p.id in "
+            + "(select pw.projectId from ProjectWorker pw where pw.workerId = :workerId) order by p.createdAt desc")
+    List<Project> findAssignedToWorker(@Param("workerId") UUID workerId);
+
+    // Solo id, coordenadas y fin de todos los proyectos, para ProjectLocationIndex
+    List<ProjectLocation> findLocationsBy();
+}
@@ -0,0 +1,33 @@
+package project_service.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+// Proyección para listados: todas las columnas menos description (TEXT)
+public interface ProjectSummary {
+    UUID getId();
+
+    String getName();
+
+    BigDecimal getBudget();
+
+    LocalDate getStartDate();
+
+    LocalDate getEndDate();
+
+    BigDecimal getPercentCompleted();
+
+    BigDecimal getPlannedHours();
+
+    BigDecimal getPlannedMaterialCost();
+
+    BigDecimal getLatitude();
+
+    BigDecimal getLongitude();
+
+    ZonedDateTime getCreatedAt();
+
+    ZonedDateTime getUpdatedAt();
+}
@@ -0,0 +1,15 @@
+package project_service.repository;
+
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.UUID;
+
+// Asignaciones en lote con JDBC: un batch por llamada en lugar de un save o delete por trabajador
+public interface ProjectWorkerBulkRepository {
+
+    // Devuelve cuántas asignaciones eran nuevas; las existentes se ignoran (ON CONFLICT DO NOTHING)
+    int assignAll(UUID projectId, Collection<UUID> workerIds, ZonedDateTime assignedAt);
+
+    // Devuelve cuántas asignaciones se borraron
+    int unassignAll(UUID projectId, Collection<UUID> workerIds);
+}
@@ -0,0 +1,53 @@
+package project_service.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+class ProjectWorkerBulkRepositoryImpl implements ProjectWorkerBulkRepository {
+
+    // Sin columnas de conflicto: vale con el índice único uk_project_workers_worker_project
+    private static final String INSERT = "INSERT INTO project_workers (id, project_id, worker_id, assigned_at) "
+            + "VALUES (?, ?, ?, ?) ON CONFLICT DO NOTHING";
+    private static final String DELETE = "DELETE FROM project_workers WHERE worker_id = ? AND project_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional
+    public int assignAll(UUID projectId, Collection<UUID> workerIds, ZonedDateTime assignedAt) {
+        Timestamp timestamp = Timestamp.from(assignedAt.toInstant());
+        List<Object[]> rows = new ArrayList<>(workerIds.size());
+        for (UUID workerId : workerIds) {
+            rows.add(new Object[]{UUID.randomUUID(), projectId, workerId, timestamp});
+        }
+        return changed(jdbcTemplate.batchUpdate(INSERT, rows));
+    }
+
+    @Override
+    @Transactional
+    public int unassignAll(UUID projectId, Collection<UUID> workerIds) {
+        List<Object[]> rows = new ArrayList<>(workerIds.size());
+        for (UUID workerId : workerIds) {
+            rows.add(new Object[]{workerId, projectId});
+        }
+        return changed(jdbcTemplate.batchUpdate(DELETE, rows));
+    }
+
+    // 1 si la fila se insertó o borró, 0 si ya existía o no estaba
+    private static int changed(int[] counts) {
+        int changed = 0;
+        for (int count : counts) {
+            changed += Math.max(count, 0);
+        }
+        return changed;
+    }
+}
@@ -6,11 +6,9 @@ import project_service.domain.ProjectWorker;
 import java.util.List;
 import java.util.UUID;
 
-public interface ProjectWorkerRepository extends JpaRepository<ProjectWorker, UUID> {
+public interface ProjectWorkerRepository extends JpaRepository<ProjectWorker, UUID>, ProjectWorkerBulkRepository {
     List<ProjectWorker> findByProjectId(UUID projectId);
 
     List<ProjectWorker> findByWorkerId(UUID workerId);
 
-    void deleteByProjectIdAndWorkerId(UUID projectId, UUID workerId);
-
 }
\ No newline at end of file
@@ -0,0 +1,47 @@
+package project_service.repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// ddl-auto=update no puede crear uk_project_workers_worker_project si la tabla ya tiene asignaciones
+// duplicadas (antes nada las impedía): se borran dejando la más antigua y se crea el índice aquí.
+// Con el índice ya creado solo cuesta una consulta al arrancar. Corre en afterSingletonsInstantiated, después
+// de que el EntityManagerFactory aplica ddl-auto y antes de que arranque el servidor web: sin el índice,
+// ON CONFLICT DO NOTHING no evita duplicados, y el borrado y CREATE INDEX no bloquean peticiones en curso.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProjectWorkerUniqueKeyInitializer implements SmartInitializingSingleton {
+
+    private static final String UNIQUE_KEY = "uk_project_workers_worker_project";
+    // Índice no único anterior sobre las mismas columnas, que queda de más
+    private static final String OLD_INDEX = "idx_project_workers_worker_project";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        Boolean pending = jdbcTemplate.queryForObject(
+                "SELECT to_regclass(?) IS NULL OR to_regclass(?) IS NOT NULL", Boolean.class, UNIQUE_KEY, OLD_INDEX);
+        if (!Boolean.TRUE.equals(pending)) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.execute("DROP INDEX IF EXISTS " + OLD_INDEX);
+            Boolean exists = jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, UNIQUE_KEY);
+            if (Boolean.TRUE.equals(exists)) {
+                return;
+            }
+            int removed = jdbcTemplate.update("DELETE FROM project_workers a USING project_workers b "
+                    + "WHERE a.worker_id = b.worker_id AND a.project_id = b.project_id "
+                    + "AND (a.assigned_at, a.id) > (b.assigned_at, b.id)");
+            jdbcTemplate.execute("CREATE UNIQUE INDEX " + UNIQUE_KEY + " ON project_workers (worker_id, project_id)");
+            log.info("Creado {} tras borrar {} asignaciones duplicadas", UNIQUE_KEY, removed);
+        });
+    }
+}
@@ -0,0 +1,123 @@
+package project_service.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import project_service.dto.ProjectResponse;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+// Para /api/projects/my-assigned, que la app consulta en cada pantalla de inicio: ids de proyectos por
+// trabajador y cada proyecto por id, así un acierto no toca la base. Se invalida al asignar o quitar un
+// trabajador y al modificar un proyecto; el TTL acota lo desactualizado con varias instancias del servicio.
+// Una carga que leyó la base antes de un cambio no debe quedar en caché después de su invalidación: cada
+// invalidación incrementa un contador antes de borrar, y la carga guarda y luego revisa el contador; si cambió,
+// borra lo que guardó. Sin Cache.get(key, loader), que tendría el lock del mapa durante la consulta y fijaría el
+// hilo virtual a su portador.
+@Component
+@RequiredArgsConstructor
+public class AssignedProjectsCache {
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    @Value("${projects.assignment-cache.max-size:10000}")
+    private long maxSize;
+
+    @Value("${projects.assignment-cache.ttl-ms:60000}")
+    private long ttlMs;
+
+    private Cache<UUID, List<UUID>> projectIdsByWorker;
+    private Cache<UUID, ProjectResponse> projects;
+    private final AtomicLong workerInvalidations = new AtomicLong();
+    private final AtomicLong projectInvalidations = new AtomicLong();
+
+    @PostConstruct
+    void init() {
+        projectIdsByWorker = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(ttlMs))
+                .recordStats()
+                .build();
+        projects = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(ttlMs))
+                .recordStats()
+                .build();
+        meterRegistry.ifAvailable(registry -> {
+            CaffeineCacheMetrics.monitor(registry, projectIdsByWorker, "projects.assignments");
+            CaffeineCacheMetrics.monitor(registry, projects, "projects.by-id");
+        });
+    }
+
+    // Proyectos asignados al trabajador; en un fallo assignedLoader los trae de la base en una sola consulta
+    public List<ProjectResponse> getAssignedProjects(UUID workerId,
+                                                     Function<UUID, List<ProjectResponse>> assignedLoader,
+                                                     Function<List<UUID>, Map<UUID, ProjectResponse>> loader) {
+        List<UUID> projectIds = projectIdsByWorker.getIfPresent(workerId);
+        if (projectIds != null) {
+            // Solo los proyectos que salieron de la caché (modificados o expirados) se vuelven a leer
+            return getProjects(projectIds, loader);
+        }
+        long workerVersion = workerInvalidations.get();
+        long projectVersion = projectInvalidations.get();
+        List<ProjectResponse> assigned = assignedLoader.apply(workerId);
+        putProjects(assigned, projectVersion);
+        projectIdsByWorker.put(workerId, assigned.stream().map(ProjectResponse::getId).toList());
+        if (workerInvalidations.get() != workerVersion) {
+            projectIdsByWorker.invalidate(workerId);
+        }
+        return assigned;
+    }
+
+    // Los proyectos que ya no estén en caché se cargan juntos con loader
+    public List<ProjectResponse> getProjects(List<UUID> projectIds,
+                                             Function<List<UUID>, Map<UUID, ProjectResponse>> loader) {
+        Map<UUID, ProjectResponse> found = projects.getAllPresent(projectIds);
+        List<UUID> missing = projectIds.stream().filter(projectId -> !found.containsKey(projectId)).distinct().toList();
+        Map<UUID, ProjectResponse> loaded = Map.of();
+        if (!missing.isEmpty()) {
+            long projectVersion = projectInvalidations.get();
+            loaded = loader.apply(missing);
+            putProjects(loaded.values(), projectVersion);
+        }
+        List<ProjectResponse> result = new ArrayList<>(projectIds.size());
+        for (UUID projectId : projectIds) {
+            ProjectResponse project = found.containsKey(projectId) ? found.get(projectId) : loaded.get(projectId);
+            if (project != null) {
+                result.add(project);
+            }
+        }
+        return result;
+    }
+
+    public void invalidateWorker(UUID workerId) {
+        workerInvalidations.incrementAndGet();
+        projectIdsByWorker.invalidate(workerId);
+    }
+
+    public void invalidateProject(UUID projectId) {
+        projectInvalidations.incrementAndGet();
+        projects.invalidate(projectId);
+    }
+
+    // version: el contador leído antes de consultar la base
+    private void putProjects(Collection<ProjectResponse> loaded, long version) {
+        loaded.forEach(project -> projects.put(project.getId(), project));
+        if (projectInvalidations.get() != version) {
+            loaded.forEach(project -> projects.invalidate(project.getId()));
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package project_service.service;
+
+import project_service.dto.ProjectCostEventRequest;
+import project_service.dto.ProjectCostResponse;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface ProjectCostService {
+    ProjectCostResponse recordCostEvent(ProjectCostEventRequest request);
+
+    List<ProjectCostResponse> getProjectCosts();
+
+    ProjectCostResponse getProjectCost(UUID projectId);
+}
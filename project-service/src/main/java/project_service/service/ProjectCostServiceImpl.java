@@ -0,0 +1,104 @@
+package project_service.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+import project_service.domain.Project;
+import project_service.domain.ProjectCost;
+import project_service.dto.ProjectCostEventRequest;
+import project_service.dto.ProjectCostResponse;
+import project_service.repository.ProjectCostRepository;
+import project_service.repository.ProjectCostSummary;
+import project_service.repository.ProjectRepository;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class ProjectCostServiceImpl implements ProjectCostService {
+
+    private static final String LABOR = "LABOR";
+    private static final String MATERIAL = "MATERIAL";
+    // Misma escala que las columnas, para que un reenvío compare igual al valor guardado
+    private static final int HOURS_SCALE = 4;
+    private static final int COST_SCALE = 2;
+
+    private final ProjectRepository projectRepository;
+    private final ProjectCostRepository projectCostRepository;
+    private final ProjectProgressUpdater projectProgressUpdater;
+
+    @Override
+    public ProjectCostResponse recordCostEvent(ProjectCostEventRequest request) {
+        if (request.getSourceId() == null || request.getProjectId() == null || request.getKind() == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "sourceId, projectId y kind son obligatorios");
+        }
+        String kind = request.getKind().toUpperCase(Locale.ROOT);
+        BigDecimal laborHours = BigDecimal.ZERO;
+        BigDecimal materialCost = BigDecimal.ZERO;
+        if (LABOR.equals(kind)) {
+            if (request.getLaborHours() == null || request.getLaborHours().signum() < 0) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "laborHours debe ser mayor o igual a 0");
+            }
+            laborHours = request.getLaborHours();
+        } else if (MATERIAL.equals(kind)) {
+            if (request.getMaterialCost() == null) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "materialCost es obligatorio");
+            }
+            materialCost = request.getMaterialCost();
+        } else {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "kind debe ser LABOR o MATERIAL");
+        }
+        Project project = findProject(request.getProjectId());
+
+        projectCostRepository.record(request.getSourceId(), project.getId(), kind,
+                        laborHours.setScale(HOURS_SCALE, RoundingMode.HALF_UP),
+                        materialCost.setScale(COST_SCALE, RoundingMode.HALF_UP), ZonedDateTime.now())
+                .forEach(projectProgressUpdater::markChanged);
+        return toResponse(project, projectCostRepository.findById(project.getId()).orElse(null));
+    }
+
+    @Override
+    public List<ProjectCostResponse> getProjectCosts() {
+        return projectCostRepository.findAllSummaries().stream()
+                .map(this::toResponse)
+                .toList();
+    }
+
+    @Override
+    public ProjectCostResponse getProjectCost(UUID projectId) {
+        Project project = findProject(projectId);
+        return toResponse(project, projectCostRepository.findById(projectId).orElse(null));
+    }
+
+    private Project findProject(UUID projectId) {
+        return projectRepository.findById(projectId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,
+                        "Proyecto no encontrado con ID: " + projectId));
+    }
+
+    private ProjectCostResponse toResponse(Project project, ProjectCost cost) {
+        return ProjectCostResponse.builder()
+                .projectId(project.getId())
+                .projectName(project.getName())
+                .laborHours(cost == null ? BigDecimal.ZERO : cost.getLaborHours())
+                .materialCost(cost == null ? BigDecimal.ZERO : cost.getMaterialCost())
+                .updatedAt(cost == null ? null : cost.getUpdatedAt())
+                .build();
+    }
+
+    private ProjectCostResponse toResponse(ProjectCostSummary summary) {
+        return ProjectCostResponse.builder()
+                .projectId(summary.getProjectId())
+                .projectName(summary.getProjectName())
+                .laborHours(summary.getLaborHours())
+                .materialCost(summary.getMaterialCost())
+                .updatedAt(summary.getUpdatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,378 @@
+package project_service.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import project_service.domain.Project;
+import project_service.repository.ProjectLocation;
+import project_service.repository.ProjectRepository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Índice en memoria de la ubicación de los proyectos: cuadrícula de celdas de 0.1° (unos 11 km) con las
+// coordenadas en double. "Cerca de mí" solo revisa las celdas alrededor del punto, sin consultar la base.
+// Se carga al arrancar, se actualiza al crear o modificar un proyecto en esta instancia y se reconstruye
+// cada projects.location-index.refresh-ms para recoger los cambios hechos en otras.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProjectLocationIndex {
+
+    private static final double CELL_DEGREES = 0.1;
+    private static final int LATITUDE_CELLS = (int) Math.round(180 / CELL_DEGREES);
+    private static final int LONGITUDE_CELLS = (int) Math.round(360 / CELL_DEGREES);
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+    private static final double CELL_KM = Math.toRadians(CELL_DEGREES) * EARTH_RADIUS_KM;
+
+    private final ProjectRepository projectRepository;
+
+    // Solo serializa a los que escriben; las búsquedas leen sin bloquear
+    private final ReentrantLock lock = new ReentrantLock();
+    // grid[fila de latitud][columna de longitud], sin cajas Long al buscar. Las filas sin proyectos quedan en null
+    // (una fila ocupada son 3600 referencias). Copia al escribir: grid, sus filas y cada Cell no se modifican
+    // después de publicarse, así que una búsqueda ve siempre un estado completo
+    private volatile Cell[][] grid = new Cell[LATITUDE_CELLS][];
+    private volatile Map<UUID, Location> locations = new ConcurrentHashMap<>();
+    // Cambios hechos mientras se reconstruye desde la base, para no perderlos al cambiar de índice.
+    // El último por proyecto; null si se sacó del índice
+    private Map<UUID, Location> changedDuringRebuild;
+
+    public record Nearby(UUID projectId, double distanceKm) {
+    }
+
+    record Location(UUID id, double latitude, double longitude, long endEpochDay) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${projects.location-index.refresh-ms:300000}",
+            initialDelayString = "${projects.location-index.refresh-ms:300000}")
+    public void rebuild() {
+        lock.lock();
+        try {
+            changedDuringRebuild = new HashMap<>();
+        } finally {
+            lock.unlock();
+        }
+        List<Location> loaded = new ArrayList<>();
+        try {
+            for (ProjectLocation row : projectRepository.findLocationsBy()) {
+                Location location = location(row.getId(), row.getLatitude(), row.getLongitude(), row.getEndDate());
+                if (location != null) {
+                    loaded.add(location);
+                }
+            }
+        } catch (Exception e) {
+            log.warn("No se pudo recargar el índice de ubicaciones de proyectos: {}", e.getMessage());
+            lock.lock();
+            try {
+                changedDuringRebuild = null;
+            } finally {
+                lock.unlock();
+            }
+            return;
+        }
+        lock.lock();
+        try {
+            replaceAll(loaded);
+            changedDuringRebuild.forEach((id, location) -> {
+                if (location == null) {
+                    removeLocked(id);
+                } else {
+                    putLocked(location);
+                }
+            });
+            changedDuringRebuild = null;
+        } finally {
+            lock.unlock();
+        }
+        log.debug("Índice de ubicaciones con {} proyectos", locations.size());
+    }
+
+    // Un proyecto que se queda sin coordenadas o sin fecha de fin sale del índice
+    public void put(Project project) {
+        if (project.getId() == null) {
+            return;
+        }
+        Location location = location(project.getId(), project.getLatitude(), project.getLongitude(),
+                project.getEndDate());
+        lock.lock();
+        try {
+            if (location == null) {
+                removeLocked(project.getId());
+            } else {
+                putLocked(location);
+            }
+            if (changedDuringRebuild != null) {
+                changedDuringRebuild.put(project.getId(), location);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Hasta limit proyectos activos (que no han terminado a la fecha today) dentro de radiusKm, del más cercano
+    // al más lejano. Empieza con un radio de una celda y lo duplica hasta juntar limit o llegar a radiusKm.
+    public List<Nearby> nearest(double latitude, double longitude, double radiusKm, int limit, LocalDate today) {
+        if (limit <= 0 || radiusKm <= 0) {
+            return List.of();
+        }
+        Cell[][] snapshot = grid;
+        long todayEpochDay = today.toEpochDay();
+        double searchKm = Math.min(CELL_KM, radiusKm);
+        while (true) {
+            Nearest nearest = new Nearest(limit);
+            scan(snapshot, latitude, longitude, searchKm, todayEpochDay, nearest);
+            // Con limit proyectos a menos de searchKm, ninguno fuera de ese radio puede estar más cerca
+            if (nearest.isFull() || searchKm >= radiusKm) {
+                return nearest.toList();
+            }
+            searchKm = Math.min(searchKm * 2, radiusKm);
+        }
+    }
+
+    public int size() {
+        return locations.size();
+    }
+
+    // Recorre las celdas del rectángulo que contiene el círculo de radiusKm alrededor del punto
+    private static void scan(Cell[][] grid, double latitude, double longitude, double radiusKm,
+                             long todayEpochDay, Nearest nearest) {
+        double angular = radiusKm / EARTH_RADIUS_KM;
+        double minLatitude = Math.max(-90, latitude - Math.toDegrees(angular));
+        double maxLatitude = Math.min(90, latitude + Math.toDegrees(angular));
+        int fromLon;
+        int toLon;
+        double sinLonDelta = Math.sin(angular) / Math.cos(Math.toRadians(latitude));
+        if (minLatitude <= -90 || maxLatitude >= 90 || sinLonDelta >= 1) {
+            // El círculo toca un polo o da la vuelta: todas las longitudes
+            fromLon = 0;
+            toLon = LONGITUDE_CELLS - 1;
+        } else {
+            double lonDelta = Math.toDegrees(Math.asin(sinLonDelta));
+            fromLon = longitudeIndex(longitude - lonDelta);
+            toLon = longitudeIndex(longitude + lonDelta);
+            if (toLon - fromLon + 1 >= LONGITUDE_CELLS) {
+                fromLon = 0;
+                toLon = LONGITUDE_CELLS - 1;
+            }
+        }
+        double latRadians = Math.toRadians(latitude);
+        double cosLat = Math.cos(latRadians);
+        int toLat = latitudeIndex(maxLatitude);
+        for (int latIndex = latitudeIndex(minLatitude); latIndex <= toLat; latIndex++) {
+            Cell[] row = grid[latIndex];
+            if (row == null) {
+                continue;
+            }
+            for (int lon = fromLon; lon <= toLon; lon++) {
+                Cell cell = row[Math.floorMod(lon, LONGITUDE_CELLS)];
+                if (cell == null) {
+                    continue;
+                }
+                for (int i = 0; i < cell.ids.length; i++) {
+                    if (cell.endEpochDays[i] < todayEpochDay) {
+                        continue;
+                    }
+                    double distance = distanceKm(latRadians, cosLat, longitude, cell.latitudes[i], cell.longitudes[i]);
+                    if (distance <= radiusKm) {
+                        nearest.offer(cell.ids[i], distance);
+                    }
+                }
+            }
+        }
+    }
+
+    // Haversine, con la latitud del punto de búsqueda ya en radianes y su coseno calculado una vez
+    private static double distanceKm(double latRadians, double cosLat, double longitude,
+                                     double otherLatitude, double otherLongitude) {
+        double otherLatRadians = Math.toRadians(otherLatitude);
+        double sinLat = Math.sin((otherLatRadians - latRadians) / 2);
+        double sinLon = Math.sin(Math.toRadians(otherLongitude - longitude) / 2);
+        double a = sinLat * sinLat + cosLat * Math.cos(otherLatRadians) * sinLon * sinLon;
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    // Solo con el lock tomado
+    private void replaceAll(Collection<Location> all) {
+        Map<UUID, Location> byId = new ConcurrentHashMap<>(Math.max(16, all.size() * 2));
+        Map<Integer, Map<Integer, List<Location>>> byCell = new HashMap<>();
+        for (Location location : all) {
+            byId.put(location.id(), location);
+            byCell.computeIfAbsent(latitudeIndex(location.latitude()), lat -> new HashMap<>())
+                    .computeIfAbsent(columnIndex(location.longitude()), lon -> new ArrayList<>())
+                    .add(location);
+        }
+        Cell[][] rebuilt = new Cell[LATITUDE_CELLS][];
+        byCell.forEach((lat, columns) -> {
+            Cell[] row = new Cell[LONGITUDE_CELLS];
+            columns.forEach((lon, members) -> row[lon] = Cell.of(members));
+            rebuilt[lat] = row;
+        });
+        grid = rebuilt;
+        locations = byId;
+    }
+
+    // Solo con el lock tomado
+    private void putLocked(Location location) {
+        Cell[][] current = grid;
+        Cell[][] next = current.clone();
+        Location previous = locations.put(location.id(), location);
+        if (previous != null) {
+            Cell[] row = writableRow(current, next, latitudeIndex(previous.latitude()));
+            int lon = columnIndex(previous.longitude());
+            row[lon] = row[lon] == null ? null : row[lon].without(previous.id());
+        }
+        Cell[] row = writableRow(current, next, latitudeIndex(location.latitude()));
+        int lon = columnIndex(location.longitude());
+        row[lon] = row[lon] == null ? Cell.of(List.of(location)) : row[lon].with(location);
+        grid = next;
+    }
+
+    // Solo con el lock tomado
+    private void removeLocked(UUID id) {
+        Location previous = locations.remove(id);
+        if (previous == null) {
+            return;
+        }
+        Cell[][] current = grid;
+        Cell[][] next = current.clone();
+        Cell[] row = writableRow(current, next, latitudeIndex(previous.latitude()));
+        int lon = columnIndex(previous.longitude());
+        row[lon] = row[lon] == null ? null : row[lon].without(previous.id());
+        grid = next;
+    }
+
+    // La fila de next lista para modificar: copia la publicada en current la primera vez que se toca
+    private static Cell[] writableRow(Cell[][] current, Cell[][] next, int latIndex) {
+        if (next[latIndex] == null) {
+            next[latIndex] = new Cell[LONGITUDE_CELLS];
+        } else if (next[latIndex] == current[latIndex]) {
+            next[latIndex] = current[latIndex].clone();
+        }
+        return next[latIndex];
+    }
+
+    private static Location location(UUID id, BigDecimal latitude, BigDecimal longitude, LocalDate endDate) {
+        if (id == null || latitude == null || longitude == null || endDate == null) {
+            return null;
+        }
+        return new Location(id, latitude.doubleValue(), longitude.doubleValue(), endDate.toEpochDay());
+    }
+
+    private static int columnIndex(double longitude) {
+        return Math.floorMod(longitudeIndex(longitude), LONGITUDE_CELLS);
+    }
+
+    private static int latitudeIndex(double latitude) {
+        return Math.min(LATITUDE_CELLS - 1, Math.max(0, (int) Math.floor((latitude + 90) / CELL_DEGREES)));
+    }
+
+    // Sin normalizar: scan recorre rangos que cruzan el antimeridiano y aplica floorMod a cada celda
+    private static int longitudeIndex(double longitude) {
+        return (int) Math.floor((longitude + 180) / CELL_DEGREES);
+    }
+
+    // Arreglos paralelos de primitivos: revisar una celda no desreferencia un objeto por proyecto
+    private record Cell(UUID[] ids, double[] latitudes, double[] longitudes, long[] endEpochDays) {
+
+        static Cell of(List<Location> members) {
+            int size = members.size();
+            Cell cell = new Cell(new UUID[size], new double[size], new double[size], new long[size]);
+            for (int i = 0; i < size; i++) {
+                cell.set(i, members.get(i));
+            }
+            return cell;
+        }
+
+        Cell with(Location location) {
+            int size = ids.length;
+            Cell cell = new Cell(Arrays.copyOf(ids, size + 1), Arrays.copyOf(latitudes, size + 1),
+                    Arrays.copyOf(longitudes, size + 1), Arrays.copyOf(endEpochDays, size + 1));
+            cell.set(size, location);
+            return cell;
+        }
+
+        // null si la celda queda vacía
+        Cell without(UUID id) {
+            int index = Arrays.asList(ids).indexOf(id);
+            if (index < 0) {
+                return this;
+            }
+            if (ids.length == 1) {
+                return null;
+            }
+            int last = ids.length - 1;
+            Cell cell = new Cell(Arrays.copyOf(ids, last), Arrays.copyOf(latitudes, last),
+                    Arrays.copyOf(longitudes, last), Arrays.copyOf(endEpochDays, last));
+            if (index < last) {
+                cell.ids[index] = ids[last];
+                cell.latitudes[index] = latitudes[last];
+                cell.longitudes[index] = longitudes[last];
+                cell.endEpochDays[index] = endEpochDays[last];
+            }
+            return cell;
+        }
+
+        private void set(int i, Location location) {
+            ids[i] = location.id();
+            latitudes[i] = location.latitude();
+            longitudes[i] = location.longitude();
+            endEpochDays[i] = location.endEpochDay();
+        }
+    }
+
+    // Los limit más cercanos vistos hasta ahora, ordenados por distancia (inserción: limit es chico)
+    private static final class Nearest {
+        private final UUID[] ids;
+        private final double[] distances;
+        private int size;
+
+        Nearest(int limit) {
+            ids = new UUID[limit];
+            distances = new double[limit];
+        }
+
+        void offer(UUID id, double distance) {
+            if (size == ids.length && distance >= distances[size - 1]) {
+                return;
+            }
+            int i = size == ids.length ? size - 1 : size++;
+            while (i > 0 && distances[i - 1] > distance) {
+                ids[i] = ids[i - 1];
+                distances[i] = distances[i - 1];
+                i--;
+            }
+            ids[i] = id;
+            distances[i] = distance;
+        }
+
+        boolean isFull() {
+            return size == ids.length;
+        }
+
+        List<Nearby> toList() {
+            List<Nearby> result = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                result.add(new Nearby(ids[i], distances[i]));
+            }
+            return result;
+        }
+    }
+}
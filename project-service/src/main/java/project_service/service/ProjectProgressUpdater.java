@@ -0,0 +1,118 @@
+package project_service.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import project_service.repository.ProjectProgress;
+import project_service.repository.ProjectRepository;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Mantiene Project.percentCompleted: horas de asistencia contra plannedHours y gasto en materiales (las solicitudes
+// aprobadas salen del inventario como movimientos OUT) contra plannedMaterialCost, cada parte topada en 100% y
+// promediadas. Los eventos solo marcan el proyecto como pendiente; el cálculo corre fuera de la petición cada
+// projects.progress.flush-ms, una vez por proyecto aunque hayan llegado muchos eventos en ese intervalo
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProjectProgressUpdater {
+
+    private static final int BATCH_SIZE = 500;
+    private static final BigDecimal ONE_HUNDRED = BigDecimal.valueOf(100);
+
+    private final ProjectRepository projectRepository;
+    private final AssignedProjectsCache assignedProjectsCache;
+
+    private final Set<UUID> pending = ConcurrentHashMap.newKeySet();
+
+    public void markChanged(UUID projectId) {
+        pending.add(projectId);
+    }
+
+    // Los pendientes de esta instancia se pierden si se detiene antes del siguiente flush: al arrancar se recalcula todo
+    @EventListener(ApplicationReadyEvent.class)
+    public void recomputeAll() {
+        try {
+            apply(projectRepository.findAllProgress());
+        } catch (Exception e) {
+            log.warn("No se pudo recalcular el avance de los proyectos: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${projects.progress.flush-ms:2000}")
+    public void flush() {
+        List<UUID> batch = new ArrayList<>();
+        // Un evento que llega después de sacar su proyecto lo vuelve a marcar para el siguiente flush
+        for (Iterator<UUID> it = pending.iterator(); it.hasNext(); ) {
+            batch.add(it.next());
+            it.remove();
+            if (batch.size() == BATCH_SIZE || !it.hasNext()) {
+                try {
+                    apply(projectRepository.findProgress(batch));
+                } catch (Exception e) {
+                    pending.addAll(batch);
+                    log.warn("No se pudo actualizar el avance de {} proyectos: {}", batch.size(), e.getMessage());
+                    return;
+                }
+                batch = new ArrayList<>();
+            }
+        }
+    }
+
+    private void apply(List<ProjectProgress> projects) {
+        Map<UUID, BigDecimal> changed = new HashMap<>();
+        for (ProjectProgress project : projects) {
+            BigDecimal percent = percentCompleted(project);
+            if (percent != null && (project.percentCompleted() == null
+                    || percent.compareTo(project.percentCompleted()) != 0)) {
+                changed.put(project.projectId(), percent);
+            }
+        }
+        if (changed.isEmpty()) {
+            return;
+        }
+        projectRepository.updatePercentCompleted(changed);
+        changed.keySet().forEach(assignedProjectsCache::invalidateProject);
+        log.debug("Avance actualizado en {} proyectos", changed.size());
+    }
+
+    // null si el proyecto no tiene nada planeado: se deja el valor que tenga
+    static BigDecimal percentCompleted(ProjectProgress project) {
+        BigDecimal sum = BigDecimal.ZERO;
+        int parts = 0;
+        if (isPlanned(project.plannedHours())) {
+            sum = sum.add(ratio(project.laborHours(), project.plannedHours()));
+            parts++;
+        }
+        if (isPlanned(project.plannedMaterialCost())) {
+            sum = sum.add(ratio(project.materialCost(), project.plannedMaterialCost()));
+            parts++;
+        }
+        if (parts == 0) {
+            return null;
+        }
+        return sum.multiply(ONE_HUNDRED).divide(BigDecimal.valueOf(parts), 2, RoundingMode.HALF_UP);
+    }
+
+    private static boolean isPlanned(BigDecimal planned) {
+        return planned != null && planned.signum() > 0;
+    }
+
+    // Entre 0 y 1: las devoluciones no bajan de cero y pasarse de lo planeado no pasa de 100%
+    private static BigDecimal ratio(BigDecimal actual, BigDecimal planned) {
+        BigDecimal ratio = actual.divide(planned, 6, RoundingMode.HALF_UP);
+        return ratio.max(BigDecimal.ZERO).min(BigDecimal.ONE);
+    }
+}
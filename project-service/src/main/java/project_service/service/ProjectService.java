@@ -1,5 +1,10 @@
 package project_service.service;
 
+import com.example.msl_pagination.CursorPage;
+import com.example.msl_pagination.FieldSelection;
+import project_service.dto.BulkWorkerAssignmentRequest;
+import project_service.dto.BulkWorkerAssignmentResponse;
+import project_service.dto.NearbyProjectResponse;
 import project_service.dto.ProjectRequest;
 import project_service.dto.ProjectResponse;
 import project_service.dto.WorkerAssignmentRequest;
@@ -10,16 +15,24 @@ import java.util.UUID;
 public interface ProjectService {
     ProjectResponse createProject(ProjectRequest request);
 
-    List<ProjectResponse> getAllProjects();
+    ProjectResponse updateProject(UUID projectId, ProjectRequest request);
+
+    CursorPage<ProjectResponse> getAllProjects(String cursor, Integer size, FieldSelection fields);
 
     void assignWorkerToProject(WorkerAssignmentRequest request);
 
+    BulkWorkerAssignmentResponse assignWorkersToProject(BulkWorkerAssignmentRequest request);
+
+    BulkWorkerAssignmentResponse removeWorkersFromProject(BulkWorkerAssignmentRequest request);
+
     List<UUID> getWorkerIdsByProject(UUID projectId);
 
     void removeWorkerFromProject(UUID projectId, UUID workerId);
 
     List<ProjectResponse> getProjectsForWorker(UUID workerId);
 
+    List<NearbyProjectResponse> getNearbyProjects(double latitude, double longitude, Double radiusKm, Integer limit);
+
     // --- AÑADE ESTE NUEVO MÉTODO ---
     ProjectResponse getProjectById(UUID projectId);
 
@@ -1,26 +1,57 @@
 package project_service.service;
 
+import com.example.msl_pagination.CursorPage;
+import com.example.msl_pagination.FieldSelection;
+import com.example.msl_pagination.KeysetPagination;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
 import project_service.domain.Project;
 import project_service.domain.ProjectWorker;
+import project_service.dto.BulkWorkerAssignmentRequest;
+import project_service.dto.BulkWorkerAssignmentResponse;
+import project_service.dto.NearbyProjectResponse;
 import project_service.dto.ProjectRequest;
 import project_service.dto.ProjectResponse;
 import project_service.dto.WorkerAssignmentRequest;
 import project_service.repository.ProjectRepository;
+import project_service.repository.ProjectSummary;
 import project_service.repository.ProjectWorkerRepository;
 
+import java.time.LocalDate;
 import java.time.ZonedDateTime;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class ProjectServiceImpl implements ProjectService {
 
+    private static final int DEFAULT_NEARBY_LIMIT = 10;
+    private static final int MAX_NEARBY_LIMIT = 100;
+
     private final ProjectRepository projectRepository;
     private final ProjectWorkerRepository projectWorkerRepository;
+    private final AssignedProjectsCache assignedProjectsCache;
+    private final ProjectLocationIndex projectLocationIndex;
+    private final ProjectProgressUpdater projectProgressUpdater;
+
+    @Value("${projects.bulk-assignment.max-workers:1000}")
+    private int maxBulkWorkers;
+
+    @Value("${projects.nearby.max-radius-km:100}")
+    private double maxNearbyRadiusKm;
 
     @Override
     public ProjectResponse createProject(ProjectRequest request) {
@@ -31,6 +62,8 @@ public class ProjectServiceImpl implements ProjectService {
                 .startDate(request.getStartDate())
                 .endDate(request.getEndDate())
                 .percentCompleted(java.math.BigDecimal.ZERO)
+                .plannedHours(request.getPlannedHours())
+                .plannedMaterialCost(request.getPlannedMaterialCost())
                 .latitude(request.getLatitude())
                 .longitude(request.getLongitude())
                 .createdAt(ZonedDateTime.now())
@@ -38,30 +71,95 @@ public class ProjectServiceImpl implements ProjectService {
                 .build();
 
         Project saved = projectRepository.save(project);
+        projectLocationIndex.put(saved);
 
         return toResponse(saved);
     }
 
     @Override
-    public List<ProjectResponse> getAllProjects() {
-        return projectRepository.findAll()
-                .stream()
-                .map(this::toResponse)
-                .collect(Collectors.toList());
+    public ProjectResponse updateProject(UUID projectId, ProjectRequest request) {
+        Project project = projectRepository.findById(projectId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,
+                        "Proyecto no encontrado con ID: " + projectId));
+        project.setName(request.getName());
+        project.setDescription(request.getDescription());
+        project.setBudget(request.getBudget());
+        project.setStartDate(request.getStartDate());
+        project.setEndDate(request.getEndDate());
+        project.setLatitude(request.getLatitude());
+        project.setLongitude(request.getLongitude());
+        project.setPlannedHours(request.getPlannedHours());
+        project.setPlannedMaterialCost(request.getPlannedMaterialCost());
+        project.setUpdatedAt(ZonedDateTime.now());
+
+        Project saved = projectRepository.save(project);
+        projectLocationIndex.put(saved);
+        assignedProjectsCache.invalidateProject(projectId);
+        // Lo planeado pudo cambiar, y el save pudo pisar un avance recién calculado
+        projectProgressUpdater.markChanged(projectId);
+        return toResponse(saved);
+    }
+
+    @Override
+    public CursorPage<ProjectResponse> getAllProjects(String cursor, Integer size, FieldSelection fields) {
+        ScrollPosition position = KeysetPagination.position(cursor, "createdAt");
+        Sort sort = KeysetPagination.newestFirst("createdAt");
+        Limit limit = KeysetPagination.limit(size);
+        if (fields.includesAny("description")) {
+            return KeysetPagination.page(projectRepository.findAllBy(position, sort, limit, Project.class),
+                    Project::getCreatedAt, Project::getId).map(this::toResponse);
+        }
+        // Sin description no se lee la columna TEXT
+        return KeysetPagination.page(projectRepository.findAllBy(position, sort, limit, ProjectSummary.class),
+                ProjectSummary::getCreatedAt, ProjectSummary::getId).map(this::toResponse);
     }
 
     @Override
     public void assignWorkerToProject(WorkerAssignmentRequest request) {
-        ProjectWorker assignment = ProjectWorker.builder()
+        // Repetir la asignación no crea otra fila
+        projectWorkerRepository.assignAll(request.getProjectId(), List.of(request.getWorkerId()), ZonedDateTime.now());
+        assignedProjectsCache.invalidateWorker(request.getWorkerId());
+    }
+
+    @Override
+    public BulkWorkerAssignmentResponse assignWorkersToProject(BulkWorkerAssignmentRequest request) {
+        Set<UUID> workerIds = distinctWorkerIds(request);
+        int assigned = projectWorkerRepository.assignAll(request.getProjectId(), workerIds, ZonedDateTime.now());
+        workerIds.forEach(assignedProjectsCache::invalidateWorker);
+        return BulkWorkerAssignmentResponse.builder()
+                .projectId(request.getProjectId())
+                .requested(workerIds.size())
+                .changed(assigned)
+                .build();
+    }
+
+    @Override
+    public BulkWorkerAssignmentResponse removeWorkersFromProject(BulkWorkerAssignmentRequest request) {
+        Set<UUID> workerIds = distinctWorkerIds(request);
+        int removed = projectWorkerRepository.unassignAll(request.getProjectId(), workerIds);
+        workerIds.forEach(assignedProjectsCache::invalidateWorker);
+        return BulkWorkerAssignmentResponse.builder()
                 .projectId(request.getProjectId())
-                .workerId(request.getWorkerId())
-                .assignedAt(ZonedDateTime.now())
+                .requested(workerIds.size())
+                .changed(removed)
                 .build();
+    }
 
-        projectWorkerRepository.save(assignment);
+    private Set<UUID> distinctWorkerIds(BulkWorkerAssignmentRequest request) {
+        if (request.getProjectId() == null || request.getWorkerIds() == null || request.getWorkerIds().isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "projectId y workerIds son obligatorios");
+        }
+        Set<UUID> workerIds = new LinkedHashSet<>(request.getWorkerIds());
+        workerIds.removeIf(Objects::isNull);
+        if (workerIds.size() > maxBulkWorkers) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Máximo " + maxBulkWorkers + " trabajadores por petición");
+        }
+        return workerIds;
     }
 
-    private ProjectResponse toResponse(Project project) {
+    // Visible en el paquete para ProjectResponseBenchmark
+    ProjectResponse toResponse(Project project) {
         return ProjectResponse.builder()
                 .id(project.getId())
                 .name(project.getName())
@@ -70,6 +168,25 @@ public class ProjectServiceImpl implements ProjectService {
                 .startDate(project.getStartDate())
                 .endDate(project.getEndDate())
                 .percentCompleted(project.getPercentCompleted())
+                .plannedHours(project.getPlannedHours())
+                .plannedMaterialCost(project.getPlannedMaterialCost())
+                .latitude(project.getLatitude())
+                .longitude(project.getLongitude())
+                .createdAt(project.getCreatedAt())
+                .updatedAt(project.getUpdatedAt())
+                .build();
+    }
+
+    private ProjectResponse toResponse(ProjectSummary project) {
+        return ProjectResponse.builder()
+                .id(project.getId())
+                .name(project.getName())
+                .budget(project.getBudget())
+                .startDate(project.getStartDate())
+                .endDate(project.getEndDate())
+                .percentCompleted(project.getPercentCompleted())
+                .plannedHours(project.getPlannedHours())
+                .plannedMaterialCost(project.getPlannedMaterialCost())
                 .latitude(project.getLatitude())
                 .longitude(project.getLongitude())
                 .createdAt(project.getCreatedAt())
@@ -90,18 +207,50 @@ public class ProjectServiceImpl implements ProjectService {
 
     @Override
     public List<ProjectResponse> getProjectsForWorker(UUID workerId) {
-        // 1. Encuentra todas las asignaciones para un trabajador específico.
-        List<ProjectWorker> assignments = projectWorkerRepository.findByWorkerId(workerId);
+        return assignedProjectsCache.getAssignedProjects(workerId,
+                id -> projectRepository.findAssignedToWorker(id).stream().map(this::toResponse).toList(),
+                this::loadProjects);
+    }
 
-        // 2. Extrae los IDs de los proyectos de esas asignaciones.
-        List<UUID> projectIds = assignments.stream()
-                .map(ProjectWorker::getProjectId)
-                .collect(Collectors.toList());
+    @Override
+    public List<NearbyProjectResponse> getNearbyProjects(double latitude, double longitude, Double radiusKm,
+                                                         Integer limit) {
+        // Comparaciones negadas para rechazar también NaN
+        if (!(latitude >= -90 && latitude <= 90 && longitude >= -180 && longitude <= 180)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Coordenadas fuera de rango");
+        }
+        double radius = radiusKm == null ? maxNearbyRadiusKm : radiusKm;
+        if (!(radius > 0 && radius <= maxNearbyRadiusKm)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "radiusKm debe ser mayor que 0 y a lo más " + maxNearbyRadiusKm);
+        }
+        int size = limit == null ? DEFAULT_NEARBY_LIMIT : limit;
+        if (size < 1 || size > MAX_NEARBY_LIMIT) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "limit debe estar entre 1 y " + MAX_NEARBY_LIMIT);
+        }
 
-        // 3. Busca todos los proyectos que coincidan con esos IDs.
+        List<ProjectLocationIndex.Nearby> nearby = projectLocationIndex.nearest(latitude, longitude, radius, size,
+                LocalDate.now());
+        if (nearby.isEmpty()) {
+            return List.of();
+        }
+        // Los proyectos salen de la misma caché por id que /my-assigned
+        Map<UUID, ProjectResponse> projects = assignedProjectsCache
+                .getProjects(nearby.stream().map(ProjectLocationIndex.Nearby::projectId).toList(), this::loadProjects)
+                .stream()
+                .collect(Collectors.toMap(ProjectResponse::getId, Function.identity()));
+        return nearby.stream()
+                .filter(near -> projects.containsKey(near.projectId()))
+                .map(near -> NearbyProjectResponse.builder()
+                        .project(projects.get(near.projectId()))
+                        .distanceKm(near.distanceKm())
+                        .build())
+                .toList();
+    }
+
+    private Map<UUID, ProjectResponse> loadProjects(List<UUID> projectIds) {
         return projectRepository.findAllById(projectIds).stream()
-                .map(this::toResponse) // Convierte cada Project a ProjectResponse
-                .collect(Collectors.toList());
+                .collect(Collectors.toMap(Project::getId, this::toResponse));
     }
 
     @Override
@@ -113,7 +262,8 @@ public class ProjectServiceImpl implements ProjectService {
 
     @Override
     public void removeWorkerFromProject(UUID projectId, UUID workerId) {
-        projectWorkerRepository.deleteByProjectIdAndWorkerId(projectId, workerId);
+        projectWorkerRepository.unassignAll(projectId, List.of(workerId));
+        assignedProjectsCache.invalidateWorker(workerId);
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,112 @@
+package project_service.repository;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Acumulado de costos contra PostgreSQL embebido: reenvíos, correcciones y cambios de proyecto de un mismo registro
+class ProjectCostRollupRepositoryImplTest {
+
+    private static EmbeddedPostgres postgres;
+    private static JdbcTemplate jdbcTemplate;
+
+    private final UUID sourceId = UUID.randomUUID();
+    private final UUID projectA = UUID.randomUUID();
+    private final UUID projectB = UUID.randomUUID();
+
+    private ProjectCostRollupRepositoryImpl repository;
+
+    @BeforeAll
+    static void startDatabase() throws IOException {
+        postgres = EmbeddedPostgres.builder().start();
+        jdbcTemplate = new JdbcTemplate(postgres.getPostgresDatabase());
+        // Las mismas columnas que ProjectCostEntry y ProjectCost
+        jdbcTemplate.execute("CREATE TABLE project_cost_entries (source_id uuid PRIMARY KEY, project_id uuid NOT NULL, "
+                + "kind varchar(20) NOT NULL, labor_hours numeric(12, 4) NOT NULL, material_cost numeric(15, 2) NOT NULL, "
+                + "recorded_at timestamptz NOT NULL)");
+        jdbcTemplate.execute("CREATE TABLE project_costs (project_id uuid PRIMARY KEY, labor_hours numeric(14, 4) NOT NULL, "
+                + "material_cost numeric(17, 2) NOT NULL, updated_at timestamptz NOT NULL)");
+    }
+
+    @AfterAll
+    static void stopDatabase() throws IOException {
+        postgres.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("TRUNCATE project_cost_entries, project_costs");
+        repository = new ProjectCostRollupRepositoryImpl(jdbcTemplate);
+    }
+
+    @Test
+    void firstEventAddsToRollup() {
+        assertThat(labor(sourceId, projectA, "2.5000")).containsExactly(projectA);
+        assertThat(material(UUID.randomUUID(), projectA, "120.00")).containsExactly(projectA);
+
+        assertRollup(projectA, "2.5000", "120.00");
+    }
+
+    @Test
+    void resendChangesNothing() {
+        labor(sourceId, projectA, "2.5000");
+
+        assertThat(labor(sourceId, projectA, "2.5000")).isEmpty();
+        assertRollup(projectA, "2.5000", "0.00");
+    }
+
+    @Test
+    void correctionAddsOnlyTheDelta() {
+        labor(sourceId, projectA, "2.5000");
+        labor(UUID.randomUUID(), projectA, "1.0000");
+
+        assertThat(labor(sourceId, projectA, "2.0000")).containsExactly(projectA);
+        assertRollup(projectA, "3.0000", "0.00");
+    }
+
+    @Test
+    void moveTakesTheEntryOutOfTheOldProject() {
+        material(sourceId, projectA, "80.00");
+        material(UUID.randomUUID(), projectA, "20.00");
+
+        assertThat(material(sourceId, projectB, "90.00")).containsExactly(projectA, projectB);
+        assertRollup(projectA, "0.0000", "20.00");
+        assertRollup(projectB, "0.0000", "90.00");
+    }
+
+    @Test
+    void returnsSubtractFromTheRollup() {
+        material(sourceId, projectA, "50.00");
+
+        material(UUID.randomUUID(), projectA, "-75.00");
+        assertRollup(projectA, "0.0000", "-25.00");
+    }
+
+    private List<UUID> labor(UUID source, UUID projectId, String hours) {
+        return repository.record(source, projectId, "LABOR", new BigDecimal(hours), new BigDecimal("0.00"),
+                ZonedDateTime.now());
+    }
+
+    private List<UUID> material(UUID source, UUID projectId, String cost) {
+        return repository.record(source, projectId, "MATERIAL", new BigDecimal("0.0000"), new BigDecimal(cost),
+                ZonedDateTime.now());
+    }
+
+    private void assertRollup(UUID projectId, String laborHours, String materialCost) {
+        assertThat(jdbcTemplate.queryForMap("SELECT labor_hours, material_cost FROM project_costs WHERE project_id = ?",
+                projectId))
+                .containsEntry("labor_hours", new BigDecimal(laborHours))
+                .containsEntry("material_cost", new BigDecimal(materialCost));
+    }
+}
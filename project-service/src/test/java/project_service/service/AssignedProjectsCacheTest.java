@@ -0,0 +1,103 @@
+package project_service.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+import project_service.dto.ProjectResponse;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Una invalidación que llega mientras una carga lee la base no debe perderse
+class AssignedProjectsCacheTest {
+
+    private final UUID workerId = UUID.randomUUID();
+    private final UUID projectId = UUID.randomUUID();
+    private final AtomicInteger assignedLoads = new AtomicInteger();
+    private final AtomicInteger projectLoads = new AtomicInteger();
+
+    private AssignedProjectsCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new AssignedProjectsCache(new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class));
+        ReflectionTestUtils.setField(cache, "maxSize", 100L);
+        ReflectionTestUtils.setField(cache, "ttlMs", 60_000L);
+        cache.init();
+    }
+
+    @Test
+    void hitDoesNotLoad() {
+        get(() -> { });
+        get(() -> { });
+
+        assertThat(assignedLoads).hasValue(1);
+        assertThat(projectLoads).hasValue(0);
+    }
+
+    @Test
+    void workerInvalidatedDuringLoadIsNotCached() {
+        get(() -> cache.invalidateWorker(workerId));
+        get(() -> { });
+
+        assertThat(assignedLoads).hasValue(2);
+    }
+
+    @Test
+    void projectInvalidatedDuringAssignedLoadIsNotCached() {
+        get(() -> cache.invalidateProject(projectId));
+        get(() -> { });
+
+        assertThat(assignedLoads).hasValue(1);
+        assertThat(projectLoads).hasValue(1);
+    }
+
+    @Test
+    void projectInvalidatedDuringByIdLoadIsNotCached() {
+        get(() -> { });
+        cache.invalidateProject(projectId);
+
+        cache.getProjects(List.of(projectId), ids -> {
+            projectLoads.incrementAndGet();
+            cache.invalidateProject(projectId);
+            return Map.of(projectId, project());
+        });
+        assertThat(get(() -> { })).extracting(ProjectResponse::getId).containsExactly(projectId);
+
+        assertThat(projectLoads).hasValue(2);
+    }
+
+    @Test
+    void invalidationAfterLoadStillApplies() {
+        get(() -> { });
+        cache.invalidateWorker(workerId);
+        get(() -> { });
+
+        assertThat(assignedLoads).hasValue(2);
+    }
+
+    // duringLoad corre entre la lectura de la base y la escritura en caché
+    private List<ProjectResponse> get(Runnable duringLoad) {
+        return cache.getAssignedProjects(workerId,
+                id -> {
+                    assignedLoads.incrementAndGet();
+                    List<ProjectResponse> loaded = List.of(project());
+                    duringLoad.run();
+                    return loaded;
+                },
+                ids -> {
+                    projectLoads.incrementAndGet();
+                    return Map.of(projectId, project());
+                });
+    }
+
+    private ProjectResponse project() {
+        return ProjectResponse.builder().id(projectId).name("Obra").build();
+    }
+}
@@ -0,0 +1,132 @@
+package project_service.service;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import project_service.domain.Project;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// GET /api/projects/nearby (10 más cercanos a menos de 100 km) con 1 000 y 20 000 proyectos repartidos entre
+// Texas y el norte de México, 10% ya terminados. nearestIndex: ProjectLocationIndex.
+// nearestLinearScan: la misma búsqueda recorriendo todos los proyectos, como haría la base sin índice espacial.
+// Ejecutar: mvn test-compile exec:exec -Dexec.classpathScope=test -Dexec.executable=java "-Dexec.args=-cp %classpath project_service.service.ProjectLocationIndexBenchmark"
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProjectLocationIndexBenchmark {
+
+    private static final double RADIUS_KM = 100;
+    private static final int LIMIT = 10;
+    private static final int QUERIES = 1024;
+
+    @Param({"1000", "20000"})
+    private int size;
+
+    private ProjectLocationIndex index;
+    private UUID[] ids;
+    private double[] latitudes;
+    private double[] longitudes;
+    private long[] endEpochDays;
+    private double[][] queries;
+    private LocalDate today;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        today = LocalDate.now();
+        index = new ProjectLocationIndex(null);
+        ids = new UUID[size];
+        latitudes = new double[size];
+        longitudes = new double[size];
+        endEpochDays = new long[size];
+        for (int i = 0; i < size; i++) {
+            LocalDate end = random.nextInt(10) == 0
+                    ? today.minusDays(1 + random.nextInt(90))
+                    : today.plusDays(random.nextInt(180));
+            Project project = Project.builder()
+                    .id(UUID.randomUUID())
+                    .latitude(BigDecimal.valueOf(random.nextDouble(24, 34)).setScale(6, RoundingMode.HALF_UP))
+                    .longitude(BigDecimal.valueOf(random.nextDouble(-107, -93)).setScale(6, RoundingMode.HALF_UP))
+                    .endDate(end)
+                    .build();
+            index.put(project);
+            ids[i] = project.getId();
+            latitudes[i] = project.getLatitude().doubleValue();
+            longitudes[i] = project.getLongitude().doubleValue();
+            endEpochDays[i] = end.toEpochDay();
+        }
+        queries = new double[QUERIES][];
+        for (int i = 0; i < QUERIES; i++) {
+            queries[i] = new double[]{random.nextDouble(24, 34), random.nextDouble(-107, -93)};
+        }
+
+        // El índice tiene que devolver exactamente lo mismo que recorrer todo
+        for (double[] query : queries) {
+            List<UUID> fromIndex = index.nearest(query[0], query[1], RADIUS_KM, LIMIT, today).stream()
+                    .map(ProjectLocationIndex.Nearby::projectId).toList();
+            List<UUID> fromScan = linearScan(query).stream().map(ProjectLocationIndex.Nearby::projectId).toList();
+            if (!fromIndex.equals(fromScan)) {
+                throw new IllegalStateException("El índice no coincide con el recorrido completo en "
+                        + Arrays.toString(query) + ": " + fromIndex + " vs " + fromScan);
+            }
+        }
+    }
+
+    @Benchmark
+    public List<ProjectLocationIndex.Nearby> nearestIndex() {
+        double[] query = queries[next++ & (QUERIES - 1)];
+        return index.nearest(query[0], query[1], RADIUS_KM, LIMIT, today);
+    }
+
+    @Benchmark
+    public List<ProjectLocationIndex.Nearby> nearestLinearScan() {
+        return linearScan(queries[next++ & (QUERIES - 1)]);
+    }
+
+    private List<ProjectLocationIndex.Nearby> linearScan(double[] query) {
+        long todayEpochDay = today.toEpochDay();
+        List<ProjectLocationIndex.Nearby> within = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            if (endEpochDays[i] < todayEpochDay) {
+                continue;
+            }
+            double distance = haversineKm(query[0], query[1], latitudes[i], longitudes[i]);
+            if (distance <= RADIUS_KM) {
+                within.add(new ProjectLocationIndex.Nearby(ids[i], distance));
+            }
+        }
+        within.sort(Comparator.comparingDouble(ProjectLocationIndex.Nearby::distanceKm));
+        return within.subList(0, Math.min(LIMIT, within.size()));
+    }
+
+    private static double haversineKm(double lat1, double lon1, double lat2, double lon2) {
+        double sinLat = Math.sin(Math.toRadians(lat2 - lat1) / 2);
+        double sinLon = Math.sin(Math.toRadians(lon2 - lon1) / 2);
+        double a = sinLat * sinLat
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * sinLon * sinLon;
+        return 2 * 6371.0088 * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ProjectLocationIndexBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
@@ -0,0 +1,148 @@
+package project_service.service;
+
+import org.junit.jupiter.api.Test;
+import project_service.domain.Project;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class ProjectLocationIndexTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 6, 1);
+
+    private final ProjectLocationIndex index = new ProjectLocationIndex(null);
+
+    @Test
+    void devuelveLoMismoQueRecorrerTodosLosProyectos() {
+        Random random = new Random(7);
+        List<Project> projects = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            Project project = project(random.nextDouble(24, 34), random.nextDouble(-107, -93),
+                    random.nextInt(10) == 0 ? TODAY.minusDays(1 + random.nextInt(30)) : TODAY.plusDays(random.nextInt(90)));
+            projects.add(project);
+            index.put(project);
+        }
+
+        for (int q = 0; q < 200; q++) {
+            double latitude = random.nextDouble(24, 34);
+            double longitude = random.nextDouble(-107, -93);
+            double radiusKm = random.nextDouble(5, 300);
+            int limit = 1 + random.nextInt(20);
+
+            List<ProjectLocationIndex.Nearby> expected = bruteForce(projects, latitude, longitude, radiusKm, limit);
+            List<ProjectLocationIndex.Nearby> actual = index.nearest(latitude, longitude, radiusKm, limit, TODAY);
+
+            assertThat(actual).extracting(ProjectLocationIndex.Nearby::projectId)
+                    .containsExactlyElementsOf(expected.stream().map(ProjectLocationIndex.Nearby::projectId).toList());
+        }
+    }
+
+    @Test
+    void moverUnProyectoLoSacaDeSuCeldaAnterior() {
+        Project project = project(25.70, -100.30, TODAY.plusDays(10));
+        index.put(project);
+
+        project.setLatitude(BigDecimal.valueOf(29.42));
+        project.setLongitude(BigDecimal.valueOf(-98.49));
+        index.put(project);
+
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.nearest(25.70, -100.30, 50, 10, TODAY)).isEmpty();
+        assertThat(index.nearest(29.42, -98.49, 50, 10, TODAY))
+                .extracting(ProjectLocationIndex.Nearby::projectId).containsExactly(project.getId());
+    }
+
+    @Test
+    void unProyectoSinUbicacionOFechaSaleDelIndice() {
+        Project sinLatitud = project(25.70, -100.30, TODAY.plusDays(10));
+        Project sinFin = project(25.71, -100.31, TODAY.plusDays(10));
+        index.put(sinLatitud);
+        index.put(sinFin);
+
+        sinLatitud.setLatitude(null);
+        index.put(sinLatitud);
+        sinFin.setEndDate(null);
+        index.put(sinFin);
+
+        assertThat(index.size()).isZero();
+        assertThat(index.nearest(25.70, -100.30, 50, 10, TODAY)).isEmpty();
+    }
+
+    @Test
+    void encuentraProyectosAlOtroLadoDelAntimeridiano() {
+        Project este = project(0, 179.95, TODAY.plusDays(10));
+        Project oeste = project(0, -179.95, TODAY.plusDays(10));
+        index.put(este);
+        index.put(oeste);
+
+        List<ProjectLocationIndex.Nearby> desdeOeste = index.nearest(0, -179.99, 20, 10, TODAY);
+        List<ProjectLocationIndex.Nearby> desdeEste = index.nearest(0, 179.99, 20, 10, TODAY);
+
+        assertThat(desdeOeste).extracting(ProjectLocationIndex.Nearby::projectId)
+                .containsExactly(oeste.getId(), este.getId());
+        assertThat(desdeEste).extracting(ProjectLocationIndex.Nearby::projectId)
+                .containsExactly(este.getId(), oeste.getId());
+        assertThat(desdeOeste.get(1).distanceKm()).isCloseTo(6.67, within(0.05));
+    }
+
+    @Test
+    void unRadioQueLlegaAlPoloRevisaTodasLasLongitudes() {
+        // Al otro lado del polo: longitud opuesta, unos 22 km en línea recta
+        Project opuesto = project(89.9, 100, TODAY.plusDays(10));
+        Project lejos = project(88.0, 100, TODAY.plusDays(10));
+        index.put(opuesto);
+        index.put(lejos);
+
+        List<ProjectLocationIndex.Nearby> nearby = index.nearest(89.9, -80, 50, 10, TODAY);
+
+        assertThat(nearby).extracting(ProjectLocationIndex.Nearby::projectId).containsExactly(opuesto.getId());
+        assertThat(nearby.get(0).distanceKm()).isCloseTo(22.2, within(0.1));
+    }
+
+    @Test
+    void omiteLosProyectosTerminados() {
+        Project terminado = project(25.70, -100.30, TODAY.minusDays(1));
+        Project terminaHoy = project(25.71, -100.30, TODAY);
+        index.put(terminado);
+        index.put(terminaHoy);
+
+        assertThat(index.nearest(25.70, -100.30, 50, 10, TODAY))
+                .extracting(ProjectLocationIndex.Nearby::projectId).containsExactly(terminaHoy.getId());
+    }
+
+    private static List<ProjectLocationIndex.Nearby> bruteForce(List<Project> projects, double latitude,
+                                                                 double longitude, double radiusKm, int limit) {
+        return projects.stream()
+                .filter(project -> !project.getEndDate().isBefore(TODAY))
+                .map(project -> new ProjectLocationIndex.Nearby(project.getId(), haversineKm(latitude, longitude,
+                        project.getLatitude().doubleValue(), project.getLongitude().doubleValue())))
+                .filter(nearby -> nearby.distanceKm() <= radiusKm)
+                .sorted(Comparator.comparingDouble(ProjectLocationIndex.Nearby::distanceKm))
+                .limit(limit)
+                .toList();
+    }
+
+    private static double haversineKm(double lat1, double lon1, double lat2, double lon2) {
+        double sinLat = Math.sin(Math.toRadians(lat2 - lat1) / 2);
+        double sinLon = Math.sin(Math.toRadians(lon2 - lon1) / 2);
+        double a = sinLat * sinLat + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * sinLon * sinLon;
+        return 2 * 6371.0088 * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    private static Project project(double latitude, double longitude, LocalDate endDate) {
+        return Project.builder()
+                .id(UUID.randomUUID())
+                .latitude(BigDecimal.valueOf(latitude))
+                .longitude(BigDecimal.valueOf(longitude))
+                .endDate(endDate)
+                .build();
+    }
+}
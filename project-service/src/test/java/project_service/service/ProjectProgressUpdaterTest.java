@@ -0,0 +1,51 @@
+package project_service.service;
+
+import org.junit.jupiter.api.Test;
+import project_service.repository.ProjectProgress;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProjectProgressUpdaterTest {
+
+    @Test
+    void averagesHoursAndMaterials() {
+        assertThat(percent("10", "1000", "5", "250")).isEqualByComparingTo("37.50");
+    }
+
+    @Test
+    void eachPartIsCappedAtOneHundred() {
+        assertThat(percent("10", "1000", "25", "500")).isEqualByComparingTo("75.00");
+        assertThat(percent("10", "1000", "25", "4000")).isEqualByComparingTo("100.00");
+    }
+
+    @Test
+    void returnsBelowZeroCountAsZero() {
+        assertThat(percent("10", "1000", "5", "-300")).isEqualByComparingTo("25.00");
+    }
+
+    @Test
+    void onlyPlannedPartsCount() {
+        assertThat(percent("8", null, "2", "999")).isEqualByComparingTo("25.00");
+        assertThat(percent("0", "400", "50", "100")).isEqualByComparingTo("25.00");
+    }
+
+    @Test
+    void nothingPlannedLeavesTheValueAlone() {
+        assertThat(percent(null, null, "5", "100")).isNull();
+        assertThat(percent("0", "0", "5", "100")).isNull();
+    }
+
+    private static BigDecimal percent(String plannedHours, String plannedMaterialCost, String laborHours,
+                                      String materialCost) {
+        return ProjectProgressUpdater.percentCompleted(new ProjectProgress(UUID.randomUUID(),
+                decimal(plannedHours), decimal(plannedMaterialCost), new BigDecimal(laborHours),
+                new BigDecimal(materialCost), null));
+    }
+
+    private static BigDecimal decimal(String value) {
+        return value == null ? null : new BigDecimal(value);
+    }
+}
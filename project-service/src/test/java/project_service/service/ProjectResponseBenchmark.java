@@ -0,0 +1,150 @@
+package project_service.service;
+
+import com.example.msl_pagination.CursorPage;
+import com.example.msl_pagination.FieldSelection;
+import com.example.msl_pagination.IsoZonedDateTimeSerializer;
+import com.example.msl_pagination.PageResponses;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import project_service.domain.Project;
+import project_service.dto.ProjectResponse;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// Costo de armar y serializar GET /api/projects con 50 y 200 proyectos, con perfil de asignación (gc.alloc.rate.norm).
+// mapToResponse: Project -> ProjectResponse. serializeBootDefault: ObjectMapper de Boot tal cual.
+// serializePrebuiltWriter: ObjectWriter construido una vez. serializeIsoDates: con IsoZonedDateTimeSerializer.
+// projectFields*: ?fields=id,name,percentCompleted,updatedAt con convertValue (antes) y con PageResponses (ahora).
+// Ejecutar: mvn test-compile exec:exec -Dexec.classpathScope=test -Dexec.executable=java "-Dexec.args=-cp %classpath project_service.service.ProjectResponseBenchmark"
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProjectResponseBenchmark {
+
+    private static final String FIELDS = "id,name,percentCompleted,updatedAt";
+
+    @Param({"50", "200"})
+    private int size;
+
+    private ProjectServiceImpl service;
+    private List<Project> projects;
+    private List<ProjectResponse> responses;
+    private ObjectMapper bootMapper;
+    private ObjectWriter prebuiltWriter;
+    private ObjectMapper isoMapper;
+    private PageResponses pageResponses;
+    private FieldSelection selection;
+
+    @Setup
+    public void setUp() throws Exception {
+        service = new ProjectServiceImpl(null, null, null, null, null);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        projects = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            ZonedDateTime created = ZonedDateTime.now(ZoneId.of("America/Monterrey")).minusDays(random.nextInt(365));
+            projects.add(Project.builder()
+                    .id(UUID.randomUUID())
+                    .name("Proyecto " + i)
+                    .description("Instalación de piso laminado en " + i + " habitaciones")
+                    .budget(BigDecimal.valueOf(random.nextLong(10_000_00, 500_000_00), 2))
+                    .startDate(LocalDate.now().minusDays(30))
+                    .endDate(LocalDate.now().plusDays(60))
+                    .percentCompleted(BigDecimal.valueOf(random.nextInt(0, 10000), 2))
+                    .latitude(new BigDecimal("25.686614"))
+                    .longitude(new BigDecimal("-100.316113"))
+                    .createdAt(created)
+                    .updatedAt(created.plusHours(5))
+                    .build());
+        }
+        responses = projects.stream().map(service::toResponse).toList();
+        // Como el ObjectMapper que arma JacksonAutoConfiguration: fechas ISO-8601, no timestamps
+        bootMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        prebuiltWriter = bootMapper.writerFor(new TypeReference<List<ProjectResponse>>() { });
+        isoMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .serializerByType(ZonedDateTime.class, new IsoZonedDateTimeSerializer())
+                .build();
+        pageResponses = new PageResponses(isoMapper);
+        selection = FieldSelection.parse(FIELDS, ProjectResponse.FIELDS);
+
+        // Las variantes optimizadas tienen que producir exactamente el mismo JSON
+        if (!Arrays.equals(serializeBootDefault(), serializeIsoDates())
+                || !Arrays.equals(projectFieldsConvertValue(), projectFieldsPageResponses())) {
+            throw new IllegalStateException("La salida optimizada no coincide con la de Boot");
+        }
+    }
+
+    @Benchmark
+    public List<ProjectResponse> mapToResponse() {
+        List<ProjectResponse> result = new ArrayList<>(projects.size());
+        for (Project project : projects) {
+            result.add(service.toResponse(project));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public byte[] serializeBootDefault() throws Exception {
+        return bootMapper.writeValueAsBytes(responses);
+    }
+
+    @Benchmark
+    public byte[] serializePrebuiltWriter() throws Exception {
+        return prebuiltWriter.writeValueAsBytes(responses);
+    }
+
+    @Benchmark
+    public byte[] serializeIsoDates() throws Exception {
+        return isoMapper.writeValueAsBytes(responses);
+    }
+
+    @Benchmark
+    public byte[] projectFieldsConvertValue() throws Exception {
+        List<Map<String, Object>> result = new ArrayList<>(responses.size());
+        for (ProjectResponse response : responses) {
+            Map<?, ?> all = bootMapper.convertValue(response, Map.class);
+            Map<String, Object> projected = new LinkedHashMap<>();
+            for (String field : selection.getFields()) {
+                projected.put(field, all.get(field));
+            }
+            result.add(projected);
+        }
+        return bootMapper.writeValueAsBytes(result);
+    }
+
+    @Benchmark
+    public byte[] projectFieldsPageResponses() throws Exception {
+        return isoMapper.writeValueAsBytes(pageResponses.ok(new CursorPage<>(responses, null), selection).getBody());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ProjectResponseBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
@@ -2,8 +2,10 @@ package com.example.worker_service;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class WorkerServiceApplication {
 
 	public static void main(String[] args) {
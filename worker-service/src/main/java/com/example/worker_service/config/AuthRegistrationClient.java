@@ -1,36 +1,27 @@
 package com.example.worker_service.config;
 
+import com.example.msl_security.MslSecurityAutoConfiguration;
 import com.example.worker_service.dto.UserResponse;
 import com.example.worker_service.dto.WorkerRequest;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.*;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 
 import java.util.Map;
 
+// Alta de la cuenta del trabajador en auth-service, sobre el mismo pool HTTP que usa msl-security
 @Component
-public class AuthClient {
+public class AuthRegistrationClient {
+
+    private final RestTemplate restTemplate;
 
     @Value("${auth.service.url}")
     private String authServiceUrl;
 
-    private final RestTemplate restTemplate = new RestTemplate();
-
-    public Map<String, Object> getUserInfo(String token) {
-        HttpHeaders headers = new HttpHeaders();
-        headers.set("Authorization", "Bearer " + token);
-        HttpEntity<Void> entity = new HttpEntity<Void>(headers);
-
-        ResponseEntity<Map<String, Object>> response = restTemplate.exchange(
-                authServiceUrl + "/api/auth/validate",
-                HttpMethod.GET,
-                entity,
-                new ParameterizedTypeReference<Map<String, Object>>() {
-                }
-        );
-        return response.getBody();
+    public AuthRegistrationClient(@Qualifier(MslSecurityAutoConfiguration.AUTH_REST_TEMPLATE) RestTemplate restTemplate) {
+        this.restTemplate = restTemplate;
     }
 
     public UserResponse registerWorkerInAuthService(WorkerRequest req) {
@@ -58,4 +49,4 @@ public class AuthClient {
             return null;
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,52 @@
+package com.example.worker_service.config;
+
+import com.example.worker_service.domain.ProjectCostOutboxEntry;
+import com.example.msl_security.ServiceToken;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.Map;
+
+// Envía a project-service las horas de una asistencia cerrada para su acumulado de costos por proyecto,
+// con la credencial de servicio (X-Service-Token). Lo llama ProjectCostOutbox; un fallo lanza excepción
+@Component
+public class ProjectCostClient {
+
+    private final RestTemplate restTemplate;
+    private final ServiceToken serviceToken;
+
+    @Value("${project.service.url}")
+    private String projectServiceUrl;
+
+    public ProjectCostClient(RestTemplateBuilder restTemplateBuilder, ServiceToken serviceToken) {
+        this.serviceToken = serviceToken;
+        this.restTemplate = restTemplateBuilder
+                .connectTimeout(Duration.ofSeconds(1))
+                .readTimeout(Duration.ofSeconds(2))
+                .build();
+    }
+
+    public void send(ProjectCostOutboxEntry entry) {
+        Map<String, Object> body = Map.of(
+                "sourceId", entry.getSourceId(),
+                "projectId", entry.getProjectId(),
+                "kind", "LABOR",
+                "laborHours", entry.getLaborHours()
+        );
+        restTemplate.postForEntity(projectServiceUrl + "/api/projects/cost-events",
+                new HttpEntity<>(body, headers()), Void.class);
+    }
+
+    private HttpHeaders headers() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        serviceToken.addTo(headers);
+        return headers;
+    }
+}
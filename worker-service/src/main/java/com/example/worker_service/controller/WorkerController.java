@@ -1,5 +1,7 @@
 package com.example.worker_service.controller;
 
+import com.example.msl_pagination.FieldSelection;
+import com.example.msl_pagination.PageResponses;
 import com.example.worker_service.domain.Worker;
 import com.example.worker_service.dto.*;
 import com.example.worker_service.service.WorkerService;
@@ -20,6 +22,7 @@ import java.util.UUID;
 public class WorkerController {
 
     private final WorkerService workerService;
+    private final PageResponses pageResponses;
 
     @PostMapping
     @PreAuthorize("hasRole('ADMINISTRADOR')")
@@ -30,8 +33,11 @@ public class WorkerController {
 
     @GetMapping
     @PreAuthorize("hasRole('ADMINISTRADOR')")
-    public ResponseEntity<List<WorkerResponse>> getAllWorkers() {
-        return ResponseEntity.ok(workerService.getAllWorkers());
+    public ResponseEntity<List<?>> getAllWorkers(@RequestParam(required = false) String cursor,
+                                                 @RequestParam(required = false) Integer size,
+                                                 @RequestParam(required = false) String fields) {
+        FieldSelection selection = FieldSelection.parse(fields, WorkerResponse.FIELDS);
+        return pageResponses.ok(workerService.getAllWorkers(cursor, size), selection);
     }
 
 
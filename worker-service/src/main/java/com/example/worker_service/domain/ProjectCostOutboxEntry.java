@@ -0,0 +1,37 @@
+package com.example.worker_service.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+@Entity
+// Horas de una asistencia cerrada pendientes de enviar a project-service; se guarda en la misma transacción
+// que la salida y ProjectCostOutbox la borra cuando project-service la recibe
+@Table(name = "project_cost_outbox", indexes = @Index(name = "idx_project_cost_outbox_created_at", columnList = "created_at"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProjectCostOutboxEntry {
+
+    @Id
+    @Column(name = "source_id")
+    private UUID sourceId; // id de la asistencia: una salida corregida reemplaza la fila pendiente
+
+    @Column(name = "project_id", nullable = false)
+    private UUID projectId;
+
+    @Column(name = "labor_hours", nullable = false, precision = 12, scale = 4)
+    private BigDecimal laborHours;
+
+    @Column(name = "created_at", nullable = false)
+    private ZonedDateTime createdAt;
+
+    // Un envío solo borra la fila si no cambió mientras se enviaba
+    @Version
+    private Long version;
+}
@@ -8,7 +8,7 @@ import java.time.ZonedDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "workers")
+@Table(name = "workers", indexes = @Index(name = "idx_workers_created_at_id", columnList = "created_at, id"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -5,11 +5,16 @@ import lombok.Data;
 
 import java.time.LocalDate;
 import java.time.ZonedDateTime;
+import java.util.Set;
 import java.util.UUID;
 
 @Data
 @Builder
 public class WorkerResponse {
+    // Valores aceptados en fields=
+    public static final Set<String> FIELDS = Set.of("id", "firstName", "lastName", "email", "phone", "dateHired",
+            "createdAt");
+
     private UUID id;
     private String firstName;
     private String lastName;
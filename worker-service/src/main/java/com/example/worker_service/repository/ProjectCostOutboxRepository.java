@@ -0,0 +1,35 @@
+package com.example.worker_service.repository;
+
+import com.example.worker_service.domain.ProjectCostOutboxEntry;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface ProjectCostOutboxRepository extends JpaRepository<ProjectCostOutboxEntry, UUID> {
+
+    List<ProjectCostOutboxEntry> findAllByOrderByCreatedAtAsc(Limit limit);
+
+    // Una sola sentencia, sin leer la fila antes: no choca con el borrado de flush. Si la fila sigue pendiente
+    // se reemplaza y sube version, así el envío en curso de la anterior no la borra
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO project_cost_outbox (source_id, project_id, labor_hours, created_at, version) "
+            + "VALUES (:sourceId, :projectId, :laborHours, :createdAt, 0) "
+            + "ON CONFLICT (source_id) DO UPDATE SET project_id = EXCLUDED.project_id, "
+            + "labor_hours = EXCLUDED.labor_hours, version = project_cost_outbox.version + 1", nativeQuery = true)
+    void upsert(@Param("sourceId") UUID sourceId, @Param("projectId") UUID projectId,
+                @Param("laborHours") BigDecimal laborHours, @Param("createdAt") ZonedDateTime createdAt);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM ProjectCostOutboxEntry e WHERE e.sourceId = :sourceId AND e.version = :version")
+    int deleteSent(@Param("sourceId") UUID sourceId, @Param("version") Long version);
+}
@@ -1,6 +1,10 @@
 package com.example.worker_service.repository;
 
 import com.example.worker_service.domain.Worker;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.Optional;
@@ -8,4 +12,7 @@ import java.util.UUID;
 
 public interface WorkerRepository extends JpaRepository<Worker, UUID> {
     Optional<Worker> findByEmail(String email);
+
+    // Listado por keyset
+    Window<Worker> findAllBy(ScrollPosition position, Sort sort, Limit limit);
 }
@@ -0,0 +1,68 @@
+package com.example.worker_service.service;
+
+import com.example.worker_service.config.ProjectCostClient;
+import com.example.worker_service.domain.AttendanceRecord;
+import com.example.worker_service.domain.ProjectCostOutboxEntry;
+import com.example.worker_service.repository.ProjectCostOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+// Horas de asistencia para el acumulado de costos de project-service. La salida solo guarda una fila
+// (misma transacción, sin esperar a project-service) y flush las envía en orden; si project-service no
+// responde quedan para el siguiente ciclo. Reenviar una fila ya recibida no suma dos veces.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProjectCostOutbox {
+
+    private static final BigDecimal SECONDS_PER_HOUR = BigDecimal.valueOf(3600);
+
+    private final ProjectCostOutboxRepository repository;
+    private final ProjectCostClient projectCostClient;
+
+    @Value("${projects.cost-outbox.batch-size:100}")
+    private int batchSize;
+
+    // Llamar dentro de la transacción que cierra la asistencia
+    public void enqueue(AttendanceRecord record) {
+        if (record.getCheckInTime() == null || record.getCheckOutTime() == null) {
+            return;
+        }
+        long seconds = Math.max(0, Duration.between(record.getCheckInTime(), record.getCheckOutTime()).toSeconds());
+        repository.upsert(record.getId(), record.getProjectId(),
+                BigDecimal.valueOf(seconds).divide(SECONDS_PER_HOUR, 4, RoundingMode.HALF_UP), ZonedDateTime.now());
+    }
+
+    @Scheduled(fixedDelayString = "${projects.cost-outbox.flush-ms:2000}")
+    public void flush() {
+        List<ProjectCostOutboxEntry> pending;
+        do {
+            pending = repository.findAllByOrderByCreatedAtAsc(Limit.of(batchSize));
+            for (ProjectCostOutboxEntry entry : pending) {
+                try {
+                    projectCostClient.send(entry);
+                } catch (HttpClientErrorException.BadRequest | HttpClientErrorException.NotFound e) {
+                    // Proyecto borrado o evento inválido: reintentar no lo arregla
+                    log.error("project-service rechazó las horas de la asistencia {}, se descartan: {}",
+                            entry.getSourceId(), e.getMessage());
+                } catch (Exception e) {
+                    log.warn("No se pudieron enviar a project-service las horas de la asistencia {}, se reintentará: {}",
+                            entry.getSourceId(), e.getMessage());
+                    return;
+                }
+                repository.deleteSent(entry.getSourceId(), entry.getVersion());
+            }
+        } while (pending.size() == batchSize);
+    }
+}
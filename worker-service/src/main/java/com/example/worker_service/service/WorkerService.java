@@ -1,5 +1,6 @@
 package com.example.worker_service.service;
 
+import com.example.msl_pagination.CursorPage;
 import com.example.worker_service.domain.Worker;
 import com.example.worker_service.dto.AttendanceRecordRequest;
 import com.example.worker_service.dto.AttendanceRecordResponse;
@@ -13,7 +14,7 @@ import java.util.UUID;
 public interface WorkerService {
     WorkerResponse registerWorker(WorkerRequest request);
 
-    List<WorkerResponse> getAllWorkers();
+    CursorPage<WorkerResponse> getAllWorkers(String cursor, Integer size);
 
     Worker getWorkerById(UUID workerId);
 
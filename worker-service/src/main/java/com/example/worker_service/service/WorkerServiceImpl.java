@@ -1,13 +1,19 @@
 package com.example.worker_service.service;
 
+import com.example.msl_pagination.CursorPage;
+import com.example.msl_pagination.KeysetPagination;
 import com.example.worker_service.domain.AttendanceRecord;
 import com.example.worker_service.domain.Worker;
 import com.example.worker_service.dto.*;
 import com.example.worker_service.repository.AttendanceRecordRepository;
 import com.example.worker_service.repository.WorkerRepository;
-import com.example.worker_service.config.AuthClient;
+import com.example.worker_service.config.AuthRegistrationClient;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.ZonedDateTime;
 import java.util.List;
@@ -21,12 +27,24 @@ public class WorkerServiceImpl implements WorkerService {
 
     private final WorkerRepository workerRepository;
     private final AttendanceRecordRepository attendanceRecordRepository;
-    private final AuthClient authClient;
+    private final AuthRegistrationClient authRegistrationClient;
+    private final ProjectCostOutbox projectCostOutbox;
+    private final MeterRegistry meterRegistry;
+
+    private Timer checkInTimer;
+
+    @PostConstruct
+    void initMeters() {
+        checkInTimer = Timer.builder("worker.attendance.check_in")
+                .description("Registro de entrada de un trabajador en un proyecto")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
 
     @Override
     public WorkerResponse registerWorker(WorkerRequest request) {
         // 1. Llama a auth-service y espera la respuesta con los datos del usuario
-        UserResponse authUser = authClient.registerWorkerInAuthService(request);
+        UserResponse authUser = authRegistrationClient.registerWorkerInAuthService(request);
         if (authUser == null) {
             throw new RuntimeException("No se pudo crear el usuario en auth-service");
         }
@@ -49,10 +67,12 @@ public class WorkerServiceImpl implements WorkerService {
     }
 
     @Override
-    public List<WorkerResponse> getAllWorkers() {
-        return workerRepository.findAll().stream()
-                .map(this::toResponse)
-                .collect(Collectors.toList());
+    public CursorPage<WorkerResponse> getAllWorkers(String cursor, Integer size) {
+        return KeysetPagination.page(
+                workerRepository.findAllBy(KeysetPagination.position(cursor, "createdAt"),
+                        KeysetPagination.newestFirst("createdAt"),
+                        KeysetPagination.limit(size)),
+                Worker::getCreatedAt, Worker::getId).map(this::toResponse);
     }
 
     @Override
@@ -65,19 +85,22 @@ public class WorkerServiceImpl implements WorkerService {
 
     @Override
     public AttendanceRecordResponse checkIn(AttendanceRecordRequest request) {
-        AttendanceRecord record = AttendanceRecord.builder()
-                .workerId(request.getWorkerId())
-                .projectId(request.getProjectId())
-                .checkInTime(ZonedDateTime.now())
-                .latitude(request.getLatitude())
-                .longitude(request.getLongitude())
-                .build();
-
-        AttendanceRecord saved = attendanceRecordRepository.save(record);
-        return toAttendanceResponse(saved);
+        return checkInTimer.record(() -> {
+            AttendanceRecord record = AttendanceRecord.builder()
+                    .workerId(request.getWorkerId())
+                    .projectId(request.getProjectId())
+                    .checkInTime(ZonedDateTime.now())
+                    .latitude(request.getLatitude())
+                    .longitude(request.getLongitude())
+                    .build();
+
+            AttendanceRecord saved = attendanceRecordRepository.save(record);
+            return toAttendanceResponse(saved);
+        });
     }
 
     @Override
+    @Transactional
     public AttendanceRecordResponse checkOut(UUID attendanceId, AttendanceRecordRequest request) {
         AttendanceRecord record = attendanceRecordRepository.findById(attendanceId)
                 .orElseThrow(() -> new RuntimeException("Registro de asistencia no encontrado"));
@@ -87,6 +110,8 @@ public class WorkerServiceImpl implements WorkerService {
         record.setLongitude(request.getLongitude());
 
         AttendanceRecord saved = attendanceRecordRepository.save(record);
+        // Las horas se envían a project-service fuera de la petición
+        projectCostOutbox.enqueue(saved);
         return toAttendanceResponse(saved);
     }
 
@@ -123,7 +148,8 @@ public class WorkerServiceImpl implements WorkerService {
                 .build();
     }
 
-    private AttendanceRecordResponse toAttendanceResponse(AttendanceRecord record) {
+    // Visible en el paquete para AttendanceRecordResponseBenchmark
+    AttendanceRecordResponse toAttendanceResponse(AttendanceRecord record) {
         return AttendanceRecordResponse.builder()
                 .id(record.getId())
                 .workerId(record.getWorkerId())
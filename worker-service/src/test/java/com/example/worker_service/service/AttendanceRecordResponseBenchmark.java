@@ -0,0 +1,105 @@
+package com.example.worker_service.service;
+
+import com.example.msl_pagination.IsoZonedDateTimeSerializer;
+import com.example.worker_service.domain.AttendanceRecord;
+import com.example.worker_service.dto.AttendanceRecordResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// Costo de armar y serializar la asistencia de un trabajador (GET /api/workers/{id}/attendance) con 50 y 500
+// registros, con perfil de asignación (gc.alloc.rate.norm). Uno de cada cinco sigue sin check-out.
+// serializeBootDefault: ObjectMapper de Boot tal cual. serializeIsoDates: con IsoZonedDateTimeSerializer.
+// Ejecutar: mvn test-compile exec:exec -Dexec.classpathScope=test -Dexec.executable=java "-Dexec.args=-cp %classpath com.example.worker_service.service.AttendanceRecordResponseBenchmark"
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AttendanceRecordResponseBenchmark {
+
+    @Param({"50", "500"})
+    private int size;
+
+    private WorkerServiceImpl service;
+    private List<AttendanceRecord> records;
+    private List<AttendanceRecordResponse> responses;
+    private ObjectMapper bootMapper;
+    private ObjectMapper isoMapper;
+
+    @Setup
+    public void setUp() throws Exception {
+        service = new WorkerServiceImpl(null, null, null, null, null);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        UUID workerId = UUID.randomUUID();
+        UUID projectId = UUID.randomUUID();
+        records = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            ZonedDateTime checkIn = ZonedDateTime.now(ZoneId.of("America/Monterrey"))
+                    .minusDays(i).minusMinutes(random.nextInt(120));
+            records.add(AttendanceRecord.builder()
+                    .id(UUID.randomUUID())
+                    .workerId(workerId)
+                    .projectId(projectId)
+                    .checkInTime(checkIn)
+                    .checkOutTime(i % 5 == 0 ? null : checkIn.plusHours(8).plusMinutes(random.nextInt(60)))
+                    .latitude(25.686614 + random.nextDouble(-0.001, 0.001))
+                    .longitude(-100.316113 + random.nextDouble(-0.001, 0.001))
+                    .build());
+        }
+        responses = records.stream().map(service::toAttendanceResponse).toList();
+        // Como el ObjectMapper que arma JacksonAutoConfiguration: fechas ISO-8601, no timestamps
+        bootMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        isoMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .serializerByType(ZonedDateTime.class, new IsoZonedDateTimeSerializer())
+                .build();
+
+        if (!Arrays.equals(serializeBootDefault(), serializeIsoDates())) {
+            throw new IllegalStateException("La salida con IsoZonedDateTimeSerializer no coincide con la de Boot");
+        }
+    }
+
+    @Benchmark
+    public List<AttendanceRecordResponse> mapToResponse() {
+        List<AttendanceRecordResponse> result = new ArrayList<>(records.size());
+        for (AttendanceRecord record : records) {
+            result.add(service.toAttendanceResponse(record));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public byte[] serializeBootDefault() throws Exception {
+        return bootMapper.writeValueAsBytes(responses);
+    }
+
+    @Benchmark
+    public byte[] serializeIsoDates() throws Exception {
+        return isoMapper.writeValueAsBytes(responses);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(AttendanceRecordResponseBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}